@@ -0,0 +1,48 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Generates large numbers of distinct, valid {@code Person} objects for benchmarks.
+ */
+public class SyntheticPersons {
+
+    private static final String[] TAG_NAMES = {"friends", "colleagues", "family", "vip", "owesMoney", "neighbours"};
+
+    private SyntheticPersons() {} // prevents instantiation
+
+    /**
+     * Returns the {@code index}-th synthetic person. Persons with different indices have different names.
+     */
+    public static Person createPerson(int index) {
+        Set<Tag> tags = new HashSet<>();
+        tags.add(Tag.of(TAG_NAMES[index % TAG_NAMES.length]));
+        if (index % 7 == 0) {
+            tags.add(Tag.of(TAG_NAMES[(index / 7) % TAG_NAMES.length]));
+        }
+        return new Person(new Name("Person " + index), new Phone(String.valueOf(80000000 + index)),
+                new Email("person" + index + "@example" + (index % 50) + ".com"),
+                new Address("Blk " + index + ", Clementi Ave " + (index % 10)), tags);
+    }
+
+    /**
+     * Returns a list of {@code count} synthetic persons with pairwise distinct identities.
+     */
+    public static List<Person> createPersons(int count) {
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            persons.add(createPerson(i));
+        }
+        return persons;
+    }
+}
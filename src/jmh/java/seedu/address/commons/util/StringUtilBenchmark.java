@@ -0,0 +1,73 @@
+package seedu.address.commons.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.benchmark.SyntheticPersons;
+
+/**
+ * Compares matching names against {@code find} keywords with {@link StringUtil#containsWordIgnoreCase(String, String)}
+ * and with a prepared {@link StringUtil.WordMatcher}.
+ * Each invocation matches the same keywords against 10k names. Allocation rates are reported by the gc profiler.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StringUtilBenchmark {
+
+    private static final int NAME_COUNT = 10_000;
+
+    private final List<String> keywords = Arrays.asList("alice", "Person", "9999", "bob");
+
+    private String[] names;
+    private StringUtil.WordMatcher keywordMatcher;
+
+    /**
+     * Generates the names to match and prepares the matcher.
+     */
+    @Setup
+    public void setUp() {
+        names = new String[NAME_COUNT];
+        for (int i = 0; i < NAME_COUNT; i++) {
+            names[i] = SyntheticPersons.createPerson(i).getName().fullName;
+        }
+        keywordMatcher = StringUtil.wordMatcherIgnoreCase(keywords);
+    }
+
+    /**
+     * Matches every name by calling {@code containsWordIgnoreCase} once per keyword.
+     */
+    @Benchmark
+    public int containsWordIgnoreCase() {
+        int matches = 0;
+        for (String name : names) {
+            if (keywords.stream().anyMatch(keyword -> StringUtil.containsWordIgnoreCase(name, keyword))) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Matches every name with the prepared matcher.
+     */
+    @Benchmark
+    public int wordMatcher() {
+        int matches = 0;
+        for (String name : names) {
+            if (keywordMatcher.matches(name)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
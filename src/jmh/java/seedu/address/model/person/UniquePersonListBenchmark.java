@@ -0,0 +1,97 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.benchmark.SyntheticPersons;
+
+/**
+ * Measures the cost of bulk loading persons into a {@code UniquePersonList}, which is what
+ * {@code AddressBook#resetData} does on every startup.
+ *
+ * The pairwise uniqueness check that {@code setPersons} used before is kept as a reference point. It is quadratic,
+ * so it is only measured up to 100k persons.
+ *
+ * Deleting and editing persons one after another is also measured, as repeated delete and edit commands do it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private List<Person> persons;
+    private UniquePersonList filledPersonList;
+    private int nextPersonToDelete;
+
+    @Setup
+    public void setUp() {
+        persons = SyntheticPersons.createPersons(size);
+        filledPersonList = new UniquePersonList();
+        filledPersonList.setPersons(persons);
+    }
+
+    /**
+     * Replaces the contents of a fresh list, validating uniqueness with the single-pass check.
+     */
+    @Benchmark
+    public UniquePersonList setPersons() {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.setPersons(persons);
+        return uniquePersonList;
+    }
+
+    /**
+     * Runs only the single-pass duplicate detection.
+     */
+    @Benchmark
+    public List<List<Person>> findDuplicatePersons() {
+        return UniquePersonList.findDuplicatePersons(persons);
+    }
+
+    /**
+     * Runs the pairwise uniqueness check previously used by {@code setPersons}.
+     */
+    @Benchmark
+    public boolean pairwiseUniquenessCheck() {
+        if (size > 100_000) {
+            return true; // ~5 * 10^11 comparisons; too slow to be worth measuring
+        }
+        for (int i = 0; i < persons.size() - 1; i++) {
+            for (int j = i + 1; j < persons.size(); j++) {
+                if (persons.get(i).isSamePerson(persons.get(j))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Deletes the next person from the front of the list, and then edits the last person, which had its position
+     * shifted by the delete. Each delete shifts the persons after it, but should not make the next lookup rescan them.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void deleteThenEdit() {
+        if (nextPersonToDelete == persons.size() - 1) {
+            filledPersonList.setPersons(persons);
+            nextPersonToDelete = 0;
+        }
+        filledPersonList.remove(persons.get(nextPersonToDelete++));
+        Person lastPerson = persons.get(persons.size() - 1);
+        filledPersonList.setPerson(lastPerson, lastPerson);
+    }
+}
@@ -0,0 +1,117 @@
+package seedu.address.model.person;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares validating person fields by matching {@code String#matches} against each field's validation regex, which
+ * compiles the regex on every call, with the validators of the fields.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidationBenchmark {
+
+    /**
+     * The kind of input to validate. Adversarial inputs are long invalid strings that make the email regex backtrack.
+     */
+    @Param({"valid", "invalid", "adversarial"})
+    private String input;
+
+    private String name;
+    private String phone;
+    private String email;
+    private String address;
+    private String tagName;
+
+    @Setup
+    public void setUp() {
+        switch (input) {
+        case "valid":
+            name = "Alex Yeoh";
+            phone = "87438807";
+            email = "alexyeoh@example.com";
+            address = "Blk 30 Geylang Street 29, #06-40";
+            tagName = "friends";
+            break;
+        case "invalid":
+            name = "Alex Yeoh*";
+            phone = "8743880x";
+            email = "alex..yeoh@example.com";
+            address = " Blk 30 Geylang Street 29";
+            tagName = "best friends";
+            break;
+        case "adversarial":
+            name = "Alex Yeoh ".repeat(100) + "*";
+            phone = "8".repeat(1000) + "x";
+            email = "alexyeoh@" + "ab".repeat(500) + ".";
+            address = "Blk 30 Geylang Street 29 ".repeat(40) + "\n";
+            tagName = "friends".repeat(100) + "!";
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown input " + input);
+        }
+        // Tag names that have been seen are not validated again, so make sure this one has not been seen
+        tagName = tagName + System.nanoTime();
+    }
+
+    @Benchmark
+    public boolean nameRegex() {
+        return name.matches(Name.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public boolean nameValidator() {
+        return Name.isValidName(name);
+    }
+
+    @Benchmark
+    public boolean phoneRegex() {
+        return phone.matches(Phone.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public boolean phoneValidator() {
+        return Phone.isValidPhone(phone);
+    }
+
+    @Benchmark
+    public boolean emailRegex() {
+        return email.matches(Email.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public boolean emailValidator() {
+        return Email.isValidEmail(email);
+    }
+
+    @Benchmark
+    public boolean addressRegex() {
+        return address.matches(Address.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public boolean addressValidator() {
+        return Address.isValidAddress(address);
+    }
+
+    @Benchmark
+    public boolean tagNameRegex() {
+        return tagName.matches(Tag.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public boolean tagNameValidator() {
+        return Tag.isValidTagName(tagName);
+    }
+}
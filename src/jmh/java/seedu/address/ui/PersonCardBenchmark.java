@@ -0,0 +1,70 @@
+package seedu.address.ui;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.layout.Region;
+import seedu.address.MainApp;
+import seedu.address.benchmark.SyntheticPersons;
+import seedu.address.model.person.Person;
+
+/**
+ * Measures the cost of showing a person on a {@code PersonCard}: loading the card's FXML file the way every
+ * {@code UiPart} used to, creating a card through the shared FXML cache, and rebinding an existing card, as the cells
+ * of the person list do.
+ *
+ * The JavaFX toolkit is started to create the cards, so this benchmark needs a display.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PersonCardBenchmark {
+
+    private URL personCardFxmlUrl;
+    private Person person;
+    private PersonCard personCard;
+
+    @Setup
+    public void setUp() {
+        try {
+            Platform.startup(() -> {});
+        } catch (IllegalStateException e) {
+            // The toolkit has already been started
+        }
+        personCardFxmlUrl = MainApp.class.getResource("/view/PersonListCard.fxml");
+        person = SyntheticPersons.createPersons(1).get(0);
+        personCard = new PersonCard();
+    }
+
+    /**
+     * Loads the card's FXML file with a new loader that reads the file, as {@code UiPart} did before the cache.
+     */
+    @Benchmark
+    public Region loadUncachedFxml() throws IOException {
+        FXMLLoader fxmlLoader = new FXMLLoader(personCardFxmlUrl);
+        fxmlLoader.setController(new Object());
+        return fxmlLoader.load();
+    }
+
+    @Benchmark
+    public Region createPersonCard() {
+        return new PersonCard(person, 1).getRoot();
+    }
+
+    @Benchmark
+    public Region rebindPersonCard() {
+        personCard.setPerson(person, 1);
+        return personCard.getRoot();
+    }
+}
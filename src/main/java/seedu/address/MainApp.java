@@ -3,6 +3,9 @@ package seedu.address;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -12,7 +15,9 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.AddressBookLoader;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
@@ -23,6 +28,9 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BackgroundAddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
@@ -45,6 +53,10 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    /** Executes commands, and is the only thread that changes the model once the window is shown. */
+    protected ExecutorService commandExecutor;
+    /** Loads the address book after the window is shown, or null if it is loaded before the window is shown. */
+    protected AddressBookLoader addressBookLoader;
 
     @Override
     public void init() throws Exception {
@@ -57,22 +69,62 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        commandExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Command executor");
+            // Commands that have been entered are waited for on exit, so the executor must not keep the app running
+            thread.setDaemon(true);
+            return thread;
+        });
 
-        model = initModelManager(storage, userPrefs);
+        if (userPrefs.isProgressiveLoadingEnabled()) {
+            model = new ModelManager(new AddressBook(), userPrefs);
+            addressBookLoader = new AddressBookLoader(model, () -> readInitialAddressBook(storage), commandExecutor);
+            logic = new LogicManager(model, storage, addressBookLoader);
+        } else {
+            model = new ModelManager(readInitialAddressBook(storage), userPrefs);
+            logic = new LogicManager(model, storage);
+        }
+
+        ui = new UiManager(logic, commandExecutor);
+    }
+
+    /**
+     * Returns the {@code AddressBookStorage} for the data file and format in {@code userPrefs}.
+     * The journal keeps its snapshot as JSON, so the binary format is only used if the journal is not enabled.
+     * A binary data file is converted to JSON first if the address book is to be saved as JSON.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        if (userPrefs.isBinaryAddressBookFormat() && !userPrefs.isAddressBookJournalEnabled()) {
+            // JSON data files are read too, and converted on the next save
+            return new BackgroundAddressBookStorage(new BinaryAddressBookStorage(addressBookFilePath));
+        }
 
-        logic = new LogicManager(model, storage);
+        try {
+            if (BinaryAddressBookStorage.isBinarySnapshot(addressBookFilePath)) {
+                logger.info("Converting binary data file " + addressBookFilePath + " to JSON");
+                BinaryAddressBookStorage.exportToJson(addressBookFilePath, addressBookFilePath);
+            }
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Binary data file at " + addressBookFilePath + " could not be converted to JSON: "
+                    + StringUtil.getDetails(e));
+        }
 
-        ui = new UiManager(logic);
+        // The journal only appends the changes made since the last save, which is quick enough to do in the foreground
+        return userPrefs.isAddressBookJournalEnabled()
+                ? new JournaledAddressBookStorage(addressBookFilePath)
+                : new BackgroundAddressBookStorage(new JsonAddressBookStorage(addressBookFilePath));
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * Returns the data from {@code storage}'s address book. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * or the address book in its backup file, or else an empty address book, will be used instead if errors occur when
+     * reading {@code storage}'s address book.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private ReadOnlyAddressBook readInitialAddressBook(Storage storage) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
         Optional<ReadOnlyAddressBook> addressBookOptional;
@@ -85,12 +137,32 @@ public class MainApp extends Application {
             }
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
         } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
-                    + " Will be starting with an empty AddressBook.");
-            initialData = new AddressBook();
+            initialData = readBackupAddressBook(storage).orElseGet(() -> {
+                logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                        + " Will be starting with an empty AddressBook.");
+                return new AddressBook();
+            });
         }
 
-        return new ModelManager(initialData, userPrefs);
+        return initialData;
+    }
+
+    /**
+     * Returns the address book in the backup of {@code storage}'s data file, kept from before the data file was last
+     * replaced, or {@code Optional.empty()} if there is no backup or it cannot be loaded either.
+     */
+    private Optional<ReadOnlyAddressBook> readBackupAddressBook(Storage storage) {
+        Path backupFilePath = FileUtil.getBackupFilePath(storage.getAddressBookFilePath());
+        try {
+            Optional<ReadOnlyAddressBook> backupAddressBook = storage.readAddressBook(backupFilePath);
+            if (backupAddressBook.isPresent()) {
+                logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                        + " Will be starting with the AddressBook in the backup file " + backupFilePath + ".");
+            }
+            return backupAddressBook;
+        } catch (DataLoadingException e) {
+            return Optional.empty();
+        }
     }
 
     private void initLogging(Config config) {
@@ -172,11 +244,25 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        if (addressBookLoader != null) {
+            addressBookLoader.start();
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        try {
+            // Waits for the commands that have been entered, so that their changes are saved
+            commandExecutor.submit(() -> {}).get();
+        } catch (InterruptedException | ExecutionException e) {
+            logger.severe("Failed to wait for commands to finish " + StringUtil.getDetails(e));
+        }
+        try {
+            storage.flushAddressBook();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -1,17 +1,33 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    public static final String BACKUP_FILE_EXTENSION = ".bak";
+
     private static final String CHARSET = "UTF-8";
+    private static final String TEMPORARY_FILE_EXTENSION = ".tmp";
+
+    private static final Logger logger = LogsCenter.getLogger(FileUtil.class);
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -75,9 +91,127 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     *
+     * @see #writeToFile(Path, ContentWriter)
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeToFile(file, outputStream -> outputStream.write(bytes));
+    }
+
+    /**
+     * Replaces the contents of a file with the content written by {@code contentWriter}.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     *
+     * The content is written to a temporary file in the same directory, which is forced to the disk and then moved
+     * over {@code file}. So if writing fails or is cut short, e.g. by a crash or a full disk, {@code file} is left as
+     * it was, and otherwise it is replaced as a whole.
+     */
+    public static void writeToFile(Path file, ContentWriter contentWriter) throws IOException {
+        replaceFile(file, contentWriter, false);
+    }
+
+    /**
+     * Similar to {@link #writeToFile(Path, ContentWriter)}, but keeps the file being replaced, if there is one, at
+     * {@link #getBackupFilePath(Path)} so that its contents can still be recovered.
+     */
+    public static void writeToFileKeepingBackup(Path file, ContentWriter contentWriter) throws IOException {
+        replaceFile(file, contentWriter, true);
+    }
+
+    /**
+     * Returns the path at which {@link #writeToFileKeepingBackup(Path, ContentWriter)} keeps the previous version of
+     * {@code file}.
+     */
+    public static Path getBackupFilePath(Path file) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_EXTENSION);
+    }
+
+    private static void replaceFile(Path file, ContentWriter contentWriter, boolean isBackupKept) throws IOException {
+        Path absoluteFile = file.toAbsolutePath();
+        createParentDirsOfFile(absoluteFile);
+        Path directory = absoluteFile.getParent();
+        Path temporaryFile = directory.resolve(absoluteFile.getFileName() + "." + UUID.randomUUID()
+                + TEMPORARY_FILE_EXTENSION);
+        try {
+            // Files.createTempFile would only let the owner access the file, which the move would then pass on to
+            // the replaced file, so the file is created with the same permissions as any other new file instead
+            try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE_NEW,
+                    StandardOpenOption.WRITE)) {
+                OutputStream outputStream = new BufferedOutputStream(Channels.newOutputStream(channel));
+                contentWriter.writeTo(outputStream);
+                outputStream.flush();
+                channel.force(true);
+            }
+            if (Files.exists(absoluteFile)) {
+                copyPermissions(absoluteFile, temporaryFile);
+            }
+
+            if (isBackupKept && Files.exists(absoluteFile)) {
+                keepBackup(absoluteFile);
+            }
+            moveAtomically(temporaryFile, absoluteFile);
+            forceDirectory(directory);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    /**
+     * Makes the current contents of {@code file} available at its backup path, without copying them if possible.
+     */
+    private static void keepBackup(Path file) throws IOException {
+        Path backupFile = getBackupFilePath(file);
+        Files.deleteIfExists(backupFile);
+        try {
+            // A hard link keeps the old contents after the file is replaced, as the replacement is a different file
+            Files.createLink(backupFile, file);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(file, backupFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Gives {@code target} the POSIX permissions of {@code source}, if the file system supports them.
+     */
+    private static void copyPermissions(Path source, Path target) throws IOException {
+        try {
+            Files.setPosixFilePermissions(target, Files.getPosixFilePermissions(source));
+        } catch (UnsupportedOperationException e) {
+            // Other file systems do not keep permissions of their own for each file
+        }
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            logger.warning("Atomic moves are not supported, replacing " + target + " non-atomically");
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory} to the disk, so that a file moved into it is not lost in a crash.
+     * Not every platform can open a directory to do so, in which case this does nothing.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            logger.fine("Could not force directory " + directory + " to the disk: " + e);
+        }
+    }
+
+    /**
+     * Writes the content of a file to an output stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the content to {@code outputStream}, which must be left open.
+         */
+        void writeTo(OutputStream outputStream) throws IOException;
     }
 
 }
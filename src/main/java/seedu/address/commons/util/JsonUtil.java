@@ -3,18 +3,27 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -22,6 +31,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -39,6 +49,10 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    /** Writes elements to a generator that the caller flushes, instead of flushing after every element. */
+    private static final ObjectWriter elementWriter = objectMapper.writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
         FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
     }
@@ -77,6 +91,58 @@ public class JsonUtil {
         return Optional.of(jsonFile);
     }
 
+    /**
+     * Reads the elements of the array in the field {@code arrayFieldName} of the JSON object in {@code filePath} one at
+     * a time, converting each to an instance of {@code elementClass} and passing it to {@code elementConsumer} before
+     * reading the next. The file is streamed, so only one element is held in memory at a time.
+     * Other fields of the JSON object are skipped. Nothing is read if the field is missing.
+     *
+     * @throws IOException if the file could not be read, is not a JSON object whose field is an array, or is cut short.
+     * @throws IllegalValueException if {@code elementConsumer} rejects an element.
+     */
+    public static <T> void readJsonArrayElements(Path filePath, String arrayFieldName, Class<T> elementClass,
+            JsonElementConsumer<T> elementConsumer) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        readJsonArrayElements(Files.newInputStream(filePath), arrayFieldName, elementClass, elementConsumer);
+    }
+
+    /**
+     * Similar to {@link #readJsonArrayElements(Path, String, Class, JsonElementConsumer)}, but reads the JSON object
+     * from {@code inputStream}, which is closed once it has been read.
+     */
+    public static <T> void readJsonArrayElements(InputStream inputStream, String arrayFieldName,
+            Class<T> elementClass, JsonElementConsumer<T> elementConsumer) throws IOException, IllegalValueException {
+        requireNonNull(inputStream);
+        requireNonNull(arrayFieldName);
+
+        try (InputStream input = inputStream; JsonParser parser = objectMapper.getFactory().createParser(input)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (!fieldName.equals(arrayFieldName)) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (valueToken != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected field " + arrayFieldName + " to be an array");
+                }
+                for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+                    if (token == null) {
+                        throw new JsonParseException(parser, "Unexpected end of array " + arrayFieldName);
+                    }
+                    elementConsumer.accept(objectMapper.readValue(parser, elementClass));
+                }
+            }
+            if (parser.currentToken() != JsonToken.END_OBJECT) {
+                // A truncated file ends the loop above without closing the object
+                throw new JsonParseException(parser, "Unexpected end of JSON object");
+            }
+        }
+    }
+
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
@@ -92,6 +158,46 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Saves a JSON object with the single field {@code arrayFieldName}, whose value is an array of {@code elements}, to
+     * the specified file. The elements are written to the file one at a time as they are taken from
+     * {@code elements}, so the document is never held in memory as a whole.
+     * Overwrites existing file if it exists, creates a new file if it doesn't. The file is replaced only once the whole
+     * document has been written, and the file replaced is kept as a backup.
+     *
+     * @throws IOException if there was an error during writing to the file
+     * @see FileUtil#writeToFileKeepingBackup(Path, FileUtil.ContentWriter)
+     */
+    public static void saveJsonArrayElements(Iterator<?> elements, String arrayFieldName, Path filePath)
+            throws IOException {
+        requireNonNull(elements);
+        requireNonNull(arrayFieldName);
+        requireNonNull(filePath);
+
+        FileUtil.writeToFileKeepingBackup(filePath, outputStream ->
+                writeJsonArrayElements(elements, arrayFieldName, outputStream));
+    }
+
+    /**
+     * Writes a JSON object with the single field {@code arrayFieldName}, whose value is an array of {@code elements},
+     * to {@code outputStream}, leaving it open.
+     */
+    static void writeJsonArrayElements(Iterator<?> elements, String arrayFieldName, OutputStream outputStream)
+            throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.useDefaultPrettyPrinter();
+            generator.writeStartObject();
+            generator.writeFieldName(arrayFieldName);
+            generator.writeStartArray();
+            while (elements.hasNext()) {
+                elementWriter.writeValue(generator, elements.next());
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -111,6 +217,27 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string
+     */
+    public static <T> String toSingleLineJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Accepts the elements read by {@link #readJsonArrayElements(Path, String, Class, JsonElementConsumer)}.
+     */
+    @FunctionalInterface
+    public interface JsonElementConsumer<T> {
+        /**
+         * Accepts {@code element}, or rejects it by throwing an {@code IllegalValueException}.
+         */
+        void accept(T element) throws IllegalValueException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -6,6 +6,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.Collection;
 
 /**
  * Helper functions for handling strings.
@@ -38,6 +39,26 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns a {@code WordMatcher} that checks whether a sentence contains any of the {@code words}.
+     *   Behaves like calling {@link #containsWordIgnoreCase(String, String)} for each word, but the words are trimmed
+     *   and validated only once, and matching does not allocate.
+     * @param words cannot be null, each word cannot be empty and must be a single word
+     */
+    public static WordMatcher wordMatcherIgnoreCase(Collection<String> words) {
+        requireNonNull(words);
+        String[] preppedWords = new String[words.size()];
+        int i = 0;
+        for (String word : words) {
+            requireNonNull(word);
+            String preppedWord = word.trim();
+            checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
+            checkArgument(!containsWhitespace(preppedWord), "Word parameter should be a single word");
+            preppedWords[i++] = preppedWord;
+        }
+        return new WordMatcher(preppedWords);
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -65,4 +86,72 @@ public class StringUtil {
             return false;
         }
     }
+
+    /**
+     * Returns true if {@code c} is a whitespace character as matched by the regex {@code \\s}.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static boolean containsWhitespace(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (isWhitespace(s.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks sentences for a fixed set of prepared words, ignoring case.
+     * A full word match is required. Sentences are scanned in place, without regexes or intermediate arrays.
+     *
+     * @see #wordMatcherIgnoreCase(Collection)
+     */
+    public static class WordMatcher {
+        private final String[] words;
+
+        private WordMatcher(String[] words) {
+            this.words = words;
+        }
+
+        /**
+         * Returns true if {@code sentence} contains any of the words of this matcher.
+         *   <br>examples:<pre>
+         *       wordMatcherIgnoreCase(List.of("abc", "xyz")).matches("ABc def") == true
+         *       wordMatcherIgnoreCase(List.of("AB")).matches("ABc def") == false //not a full word match
+         *       </pre>
+         * @param sentence cannot be null
+         */
+        public boolean matches(String sentence) {
+            requireNonNull(sentence);
+            int length = sentence.length();
+            int start = 0;
+            while (start < length) {
+                if (isWhitespace(sentence.charAt(start))) {
+                    start++;
+                    continue;
+                }
+                int end = start + 1;
+                while (end < length && !isWhitespace(sentence.charAt(end))) {
+                    end++;
+                }
+                if (matchesAnyWord(sentence, start, end - start)) {
+                    return true;
+                }
+                start = end;
+            }
+            return false;
+        }
+
+        private boolean matchesAnyWord(String sentence, int offset, int length) {
+            for (String word : words) {
+                if (word.length() == length && sentence.regionMatches(true, offset, word, 0, length)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
 }
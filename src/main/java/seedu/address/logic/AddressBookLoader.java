@@ -0,0 +1,139 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Loads the address book into a model that starts out empty, so that the app can be shown before a large address book
+ * has been read.
+ *
+ * The address book is read on a background thread, and its persons are then added to the model in batches on the
+ * model's executor, usually the thread that commands are executed on. Each batch is only handed to the executor once
+ * the previous one has been added, so that the executor can handle other tasks, such as commands, in between.
+ *
+ * If the address book cannot be read, or its persons cannot be added, the model is left with an empty address book
+ * instead, and loading still ends.
+ */
+public class AddressBookLoader {
+
+    /** The progress while the address book is still being read, when it is not yet known how many persons it has. */
+    public static final double PROGRESS_READING = -1;
+    public static final double PROGRESS_LOADED = 1;
+
+    static final int BATCH_SIZE = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookLoader.class);
+
+    private final Model model;
+    private final Supplier<ReadOnlyAddressBook> addressBookReader;
+    private final Executor modelExecutor;
+    private final int batchSize;
+    private final ReadOnlyDoubleWrapper progress = new ReadOnlyDoubleWrapper(PROGRESS_READING);
+
+    /**
+     * Creates a loader that adds the persons in the address book returned by {@code addressBookReader} to
+     * {@code model}, running each change to {@code model} on {@code modelExecutor}.
+     */
+    public AddressBookLoader(Model model, Supplier<ReadOnlyAddressBook> addressBookReader, Executor modelExecutor) {
+        this(model, addressBookReader, modelExecutor, BATCH_SIZE);
+    }
+
+    AddressBookLoader(Model model, Supplier<ReadOnlyAddressBook> addressBookReader, Executor modelExecutor,
+            int batchSize) {
+        requireAllNonNull(model, addressBookReader, modelExecutor);
+        this.model = model;
+        this.addressBookReader = addressBookReader;
+        this.modelExecutor = modelExecutor;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Starts loading the address book on a background thread.
+     */
+    public void start() {
+        Thread loaderThread = new Thread(this::load, "AddressBook loader");
+        loaderThread.setDaemon(true);
+        loaderThread.start();
+    }
+
+    /**
+     * Returns the fraction of the persons that have been added to the model, {@link #PROGRESS_READING} while the
+     * address book is still being read, or {@link #PROGRESS_LOADED} once all persons have been added, or once the
+     * model has been left with an empty address book because loading failed.
+     * It only changes on the model's executor.
+     */
+    public ReadOnlyDoubleProperty progressProperty() {
+        return progress.getReadOnlyProperty();
+    }
+
+    /**
+     * Returns true once all persons have been added to the model, or loading has failed.
+     */
+    public boolean isLoaded() {
+        return progress.get() == PROGRESS_LOADED;
+    }
+
+    /**
+     * Reads the address book, and then hands its first batch of persons to the model's executor.
+     */
+    void load() {
+        List<Person> persons;
+        try {
+            persons = new ArrayList<>(addressBookReader.get().getPersonList());
+        } catch (RuntimeException | OutOfMemoryError e) {
+            // Whatever was read can be collected now, so even running out of memory while reading can be recovered from
+            logger.warning("Address book could not be read, starting with an empty address book: "
+                    + StringUtil.getDetails(e));
+            modelExecutor.execute(this::loadEmptyAddressBook);
+            return;
+        }
+        logger.info("Read " + persons.size() + " persons, adding them to the address book");
+        modelExecutor.execute(() -> addBatch(persons, 0));
+    }
+
+    /**
+     * Adds the batch of {@code persons} starting at {@code from} to the model, and hands the next batch, if any, to the
+     * model's executor.
+     */
+    private void addBatch(List<Person> persons, int from) {
+        int to = Math.min(from + batchSize, persons.size());
+        try {
+            model.addPersons(persons.subList(from, to));
+        } catch (RuntimeException e) {
+            logger.warning("Persons could not be added, starting with an empty address book: "
+                    + StringUtil.getDetails(e));
+            loadEmptyAddressBook();
+            return;
+        }
+        if (to < persons.size()) {
+            progress.set((double) to / persons.size());
+            modelExecutor.execute(() -> addBatch(persons, to));
+            return;
+        }
+
+        logger.info("Address book loaded");
+        progress.set(PROGRESS_LOADED);
+    }
+
+    /**
+     * Replaces the persons added to the model so far with an empty address book, and ends loading.
+     */
+    private void loadEmptyAddressBook() {
+        model.setAddressBook(new AddressBook());
+        progress.set(PROGRESS_LOADED);
+    }
+}
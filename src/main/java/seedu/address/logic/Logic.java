@@ -1,7 +1,9 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
+import javafx.beans.property.ReadOnlyDoubleProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
@@ -23,6 +25,21 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler that is given the error message of each failure to save the address book that is only found
+     * after the command that saved it has returned. The handler may be called on any thread.
+     * The address book is saved again by the next command, even if that command does not change it.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
+    /**
+     * Returns the progress of loading the address book, which is {@link AddressBookLoader#PROGRESS_LOADED} once it
+     * has been loaded.
+     *
+     * @see AddressBookLoader#progressProperty()
+     */
+    ReadOnlyDoubleProperty getAddressBookLoadingProgress();
+
     /**
      * Returns the AddressBook.
      *
@@ -30,7 +47,7 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
-    /** Returns an unmodifiable view of the filtered list of persons */
+    /** Returns an unmodifiable view of the filtered list of persons, in the order it is sorted in */
     ObservableList<Person> getFilteredPersonList();
 
     /**
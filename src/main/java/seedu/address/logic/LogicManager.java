@@ -3,8 +3,11 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
@@ -27,19 +30,57 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_ADDRESS_BOOK_LOADING =
+            "The address book is still loading. Please try again once it has been loaded.";
+
+    private static final long UNSAVED_MODIFICATION_COUNT = Long.MIN_VALUE;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    /** Loads the address book into the model, or null if the model was created with the address book loaded. */
+    private final AddressBookLoader addressBookLoader;
+    private final ReadOnlyDoubleProperty addressBookLoadingProgress;
+    /**
+     * The modification count of the address book when it was last passed to the storage without error, or
+     * {@code UNSAVED_MODIFICATION_COUNT} if the storage failed to write it afterwards.
+     */
+    private volatile long savedModificationCount;
+    private volatile Consumer<String> saveFailureHandler;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model}, whose address book is being loaded by
+     * {@code addressBookLoader}, and {@code Storage}.
+     * Only commands that do not use the address book can be executed until it has been loaded.
+     */
+    public LogicManager(Model model, Storage storage, AddressBookLoader addressBookLoader) {
         this.model = model;
         this.storage = storage;
+        this.addressBookLoader = addressBookLoader;
         addressBookParser = new AddressBookParser();
+        savedModificationCount = model.getAddressBookModificationCount();
+        storage.setSaveFailureListener(this::handleSaveFailure);
+
+        if (addressBookLoader == null) {
+            addressBookLoadingProgress = new SimpleDoubleProperty(AddressBookLoader.PROGRESS_LOADED);
+            return;
+        }
+        addressBookLoadingProgress = addressBookLoader.progressProperty();
+        addressBookLoadingProgress.addListener((unused1, unused2, unused3) -> {
+            if (addressBookLoader.isLoaded()) {
+                // The loaded persons came from the storage, so they do not need to be saved again
+                savedModificationCount = model.getAddressBookModificationCount();
+            }
+        });
     }
 
     @Override
@@ -48,19 +89,64 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
+        if (!isAddressBookLoaded() && command.requiresLoadedAddressBook()) {
+            throw new CommandException(MESSAGE_ADDRESS_BOOK_LOADING);
+        }
+        long modificationCountBefore = model.getAddressBookModificationCount();
         commandResult = command.execute(model);
 
+        long modificationCount = model.getAddressBookModificationCount();
+        assert command.isMutating() || modificationCount == modificationCountBefore
+                : "A command that is not mutating changed the address book";
+        if (modificationCount == savedModificationCount) {
+            // Nothing has changed since the last successful save, e.g. because the command only reads the data
+            return commandResult;
+        }
+
+        // Updated before saving, so that a failure to write the address book afterwards is never overwritten
+        savedModificationCount = modificationCount;
         try {
             storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            savedModificationCount = UNSAVED_MODIFICATION_COUNT;
+            throw new CommandException(getSaveFailureMessage(ioe), ioe);
         }
 
         return commandResult;
     }
 
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    /**
+     * Handles a failure to write the address book after it was passed to the storage.
+     */
+    private void handleSaveFailure(IOException failure) {
+        savedModificationCount = UNSAVED_MODIFICATION_COUNT;
+        Consumer<String> handler = saveFailureHandler;
+        if (handler != null) {
+            handler.accept(getSaveFailureMessage(failure));
+        }
+    }
+
+    private static String getSaveFailureMessage(IOException failure) {
+        if (failure instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, failure.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, failure.getMessage());
+    }
+
+    private boolean isAddressBookLoaded() {
+        return addressBookLoader == null || addressBookLoader.isLoaded();
+    }
+
+    @Override
+    public ReadOnlyDoubleProperty getAddressBookLoadingProgress() {
+        return addressBookLoadingProgress;
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -17,4 +17,21 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if executing this command may change the address book data, which then has to be saved.
+     * Commands that never change the address book data should override this to return false.
+     */
+    public boolean isMutating() {
+        return true;
+    }
+
+    /**
+     * Returns true if this command reads or changes the persons in the address book, and so can only be executed once
+     * the address book has been loaded in full.
+     * Commands that never use the persons should override this to return false.
+     */
+    public boolean requiresLoadedAddressBook() {
+        return true;
+    }
+
 }
@@ -16,4 +16,14 @@ public class ExitCommand extends Command {
         return new CommandResult(MESSAGE_EXIT_ACKNOWLEDGEMENT, false, true);
     }
 
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
+    @Override
+    public boolean requiresLoadedAddressBook() {
+        return false;
+    }
+
 }
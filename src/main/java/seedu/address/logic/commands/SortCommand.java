@@ -0,0 +1,73 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.PersonOrder;
+
+/**
+ * Sorts the displayed person list by one of the persons' fields, or lists the persons in the order they were added.
+ * The list stays sorted as persons are added, edited, found and listed.
+ */
+public class SortCommand extends Command {
+
+    public static final String COMMAND_WORD = "sort";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts the displayed person list by the given field, "
+            + "or lists persons in the order they were added, and keeps it in that order.\n"
+            + "Parameters: " + Arrays.stream(PersonOrder.values())
+                    .map(PersonOrder::getKeyword)
+                    .collect(Collectors.joining("|")) + "\n"
+            + "Example: " + COMMAND_WORD + " " + PersonOrder.NAME.getKeyword();
+
+    public static final String MESSAGE_SUCCESS = "Sorted persons by %1$s";
+
+    public static final String MESSAGE_SUCCESS_ADDED = "Listed persons in the order they were added";
+
+    private final PersonOrder order;
+
+    public SortCommand(PersonOrder order) {
+        requireNonNull(order);
+        this.order = order;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.sortFilteredPersonList(order.getComparator());
+        return new CommandResult(order == PersonOrder.ADDED
+                ? MESSAGE_SUCCESS_ADDED
+                : String.format(MESSAGE_SUCCESS, order.getKeyword()));
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SortCommand)) {
+            return false;
+        }
+
+        SortCommand otherSortCommand = (SortCommand) other;
+        return order == otherSortCommand.order;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("order", order)
+                .toString();
+    }
+}
@@ -1,24 +1,47 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PersonMatchesFieldsPredicate;
+import seedu.address.model.tag.Tag;
 
 /**
  * Parses input arguments and creates a new FindCommand object
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    public static final String MESSAGE_INVALID_PHONE_PREFIX = "Phone prefixes should only contain numbers";
+    public static final String MESSAGE_INVALID_EMAIL_DOMAIN =
+            "Email domains should not be blank and should not contain spaces";
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG);
+        if (Stream.of(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG)
+                .anyMatch(prefix -> argMultimap.getValue(prefix).isPresent())) {
+            return parseFieldSearch(argMultimap);
+        }
+
         String trimmedArgs = args.trim();
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(
@@ -30,4 +53,45 @@ public class FindCommandParser implements Parser<FindCommand> {
         return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
     }
 
+    /**
+     * Parses prefixed search criteria into a FindCommand that matches persons satisfying all of them.
+     * @throws ParseException if there is a preamble, a repeated non-tag prefix, or an invalid criterion
+     */
+    private FindCommand parseFieldSearch(ArgumentMultimap argMultimap) throws ParseException {
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS);
+
+        List<String> nameKeywords = parseKeywords(argMultimap.getValue(PREFIX_NAME));
+        Optional<String> phonePrefix = argMultimap.getValue(PREFIX_PHONE).map(String::trim);
+        if (phonePrefix.isPresent() && !phonePrefix.get().matches("\\d+")) {
+            throw new ParseException(MESSAGE_INVALID_PHONE_PREFIX);
+        }
+        Optional<String> emailDomain = argMultimap.getValue(PREFIX_EMAIL).map(String::trim);
+        if (emailDomain.isPresent() && !emailDomain.get().matches("@?[^@\\s]+")) {
+            throw new ParseException(MESSAGE_INVALID_EMAIL_DOMAIN);
+        }
+        List<String> addressKeywords = parseKeywords(argMultimap.getValue(PREFIX_ADDRESS));
+        Set<Tag> tags = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
+
+        if (nameKeywords.isEmpty() && phonePrefix.isEmpty() && emailDomain.isEmpty() && addressKeywords.isEmpty()
+                && tags.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+
+        return new FindCommand(
+                new PersonMatchesFieldsPredicate(nameKeywords, phonePrefix, emailDomain, addressKeywords, tags));
+    }
+
+    /**
+     * Splits {@code value} into the words it contains, or returns an empty list if it is absent or has no words.
+     * Punctuation separates words, as in the indexed fields.
+     */
+    private static List<String> parseKeywords(Optional<String> value) {
+        return Arrays.stream(value.orElse("").split("[^\\p{IsLetter}\\p{IsDigit}]+"))
+                .filter(keyword -> !keyword.isEmpty())
+                .collect(Collectors.toList());
+    }
+
 }
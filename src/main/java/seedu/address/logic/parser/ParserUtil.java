@@ -104,10 +104,7 @@ public class ParserUtil {
     public static Tag parseTag(String tag) throws ParseException {
         requireNonNull(tag);
         String trimmedTag = tag.trim();
-        if (!Tag.isValidTagName(trimmedTag)) {
-            throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
-        }
-        return new Tag(trimmedTag);
+        return Tag.ofValidName(trimmedTag).orElseThrow(() -> new ParseException(Tag.MESSAGE_CONSTRAINTS));
     }
 
     /**
@@ -1,13 +1,22 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.IndexedPersonPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndex;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.tag.Tag;
 
 /**
  * Wraps all data at the address-book level
@@ -16,19 +25,19 @@ import seedu.address.model.person.UniquePersonList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
-
-    /*
-     * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
-     * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
-     *
-     * Note that non-static init blocks are not recommended to use. There are other ways to avoid duplication
-     *   among constructors.
+    /** False if the persons are stored compactly and searched by scanning, so that no indexes are kept. */
+    private final boolean isIndexed;
+    /**
+     * Indexes over {@code persons}, or null until they are first needed. They are then built in bulk, and kept up to
+     * date from then on, so that loading or copying an address book that is never searched does not build them.
      */
-    {
-        persons = new UniquePersonList();
-    }
+    private PersonIndex personIndex;
+    /** The number of changes made to {@code persons} since this address book was created. */
+    private long modificationCount;
 
-    public AddressBook() {}
+    public AddressBook() {
+        this(new UniquePersonList(), true);
+    }
 
     /**
      * Creates an AddressBook using the Persons in the {@code toBeCopied}
@@ -38,14 +47,45 @@ public class AddressBook implements ReadOnlyAddressBook {
         resetData(toBeCopied);
     }
 
+    private AddressBook(UniquePersonList persons, boolean isIndexed) {
+        this.persons = persons;
+        this.isIndexed = isIndexed;
+    }
+
+    /**
+     * Creates an AddressBook using the Persons in the {@code toBeCopied}, that stores its persons compactly to use less
+     * memory. Such an address book keeps no indexes over its persons, so searching it scans every person.
+     *
+     * @see UniquePersonList#createCompact()
+     */
+    public static AddressBook createCompact(ReadOnlyAddressBook toBeCopied) {
+        AddressBook addressBook = new AddressBook(UniquePersonList.createCompact(), false);
+        addressBook.resetData(toBeCopied);
+        return addressBook;
+    }
+
     //// list overwrite operations
 
+    /**
+     * Adds {@code persons} to the end of the person list, in order, as a single change to the list.
+     * None of the persons may already exist in the address book, and {@code persons} must not contain duplicate
+     * persons. If they do, none of them are added.
+     */
+    public void addPersons(List<Person> persons) {
+        requireAllNonNull(persons);
+        batchUpdate(() -> persons.forEach(this::addPerson));
+    }
+
     /**
      * Replaces the contents of the person list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        if (personIndex != null) {
+            personIndex.setPersons(persons);
+        }
+        modificationCount++;
     }
 
     /**
@@ -73,6 +113,10 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        if (personIndex != null) {
+            personIndex.add(p);
+        }
+        modificationCount++;
     }
 
     /**
@@ -84,6 +128,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        if (personIndex != null) {
+            personIndex.remove(target);
+            personIndex.add(editedPerson);
+        }
+        modificationCount++;
     }
 
     /**
@@ -92,6 +141,75 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        if (personIndex != null) {
+            personIndex.remove(key);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Runs {@code changes}, which changes this address book through its other methods, notifying the listeners of the
+     * person list once of all the changes made, instead of once per change.
+     * If {@code changes} throws, every change it made is undone before the exception is rethrown.
+     *
+     * @see UniquePersonList#batchUpdate(Runnable)
+     */
+    public void batchUpdate(Runnable changes) {
+        requireNonNull(changes);
+        long modificationCountBefore = modificationCount;
+        try {
+            persons.batchUpdate(changes);
+        } catch (RuntimeException | Error e) {
+            if (modificationCount != modificationCountBefore) {
+                // The person list has been rolled back, so the indexes are rebuilt to match it
+                if (personIndex != null) {
+                    personIndex.setPersons(persons.asUnmodifiableObservableList());
+                }
+                modificationCount++;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns true if the address book keeps indexes over its persons, so that {@link #findPersons} does not have to
+     * test every person.
+     */
+    public boolean hasIndexes() {
+        return isIndexed;
+    }
+
+    /**
+     * Returns the persons in the address book that satisfy {@code predicate}, found using the address book's indexes
+     * if it has any. The returned set compares persons by reference.
+     */
+    public Set<Person> findPersons(IndexedPersonPredicate predicate) {
+        requireNonNull(predicate);
+        if (!isIndexed) {
+            return persons.asUnmodifiableObservableList().stream().filter(predicate)
+                    .collect(Collectors.toCollection(() -> Collections.newSetFromMap(new IdentityHashMap<>())));
+        }
+        return predicate.findMatches(getPersonIndex());
+    }
+
+    /**
+     * Returns the indexes over the persons, building them first if they have not been needed before.
+     */
+    private PersonIndex getPersonIndex() {
+        assert isIndexed;
+        if (personIndex == null) {
+            personIndex = new PersonIndex();
+            personIndex.setPersons(persons.asUnmodifiableObservableList());
+        }
+        return personIndex;
+    }
+
+    /**
+     * Returns the number of changes made to the persons in this address book since it was created.
+     * The count only ever increases, so an unchanged count means the address book has not been changed.
+     */
+    public long getModificationCount() {
+        return modificationCount;
     }
 
     //// util methods
@@ -108,6 +226,28 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    /**
+     * {@inheritDoc}
+     * The copy is taken without creating {@code Person} objects for persons that are stored compactly.
+     */
+    @Override
+    public ObservableList<Person> copyPersonList() {
+        return persons.copyAsUnmodifiableObservableList();
+    }
+
+    /**
+     * {@inheritDoc}
+     * If the persons are stored compactly, the map is computed on each call and does not reflect later changes.
+     * Otherwise, it is a view of the index of persons by tag, which reflects later changes.
+     */
+    @Override
+    public Map<Tag, Set<Person>> getPersonsByTag() {
+        if (!isIndexed) {
+            return ReadOnlyAddressBook.super.getPersonsByTag();
+        }
+        return getPersonIndex().getPersonsByTag();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -1,10 +1,13 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.IndexedPersonPredicate;
 import seedu.address.model.person.Person;
 
 /**
@@ -52,6 +55,12 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the number of changes made to the address book data so far.
+     * The address book has not been changed between two calls that return the same count.
+     */
+    long getAddressBookModificationCount();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -69,6 +78,13 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds the given persons, in order, without changing the filter of the filtered person list.
+     * None of {@code persons} may already exist in the address book, and {@code persons} must not contain duplicate
+     * persons.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -76,7 +92,19 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
-    /** Returns an unmodifiable view of the filtered person list */
+    /**
+     * Runs {@code changes}, which changes the address book through the other methods of this model, notifying the
+     * listeners of the person lists once of all the changes made, instead of once per change.
+     * If {@code changes} throws, every change it made is undone before the exception is rethrown.
+     * The filtered person list must not be read during the batch, as it is only told of the changes once it ends.
+     * @throws NullPointerException if {@code changes} is null.
+     */
+    void batchUpdate(Runnable changes);
+
+    /**
+     * Returns an unmodifiable view of the filtered person list, sorted by the comparator last given to
+     * {@link #sortFilteredPersonList(Comparator)}.
+     */
     ObservableList<Person> getFilteredPersonList();
 
     /**
@@ -84,4 +112,18 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}, finding the persons
+     * that satisfy it with the address book's indexes instead of testing every person.
+     * Persons added or edited later are tested against {@code predicate}, as with any other filter.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredPersonList(IndexedPersonPredicate predicate);
+
+    /**
+     * Sorts the filtered person list by the given {@code comparator}, or lists the persons in the order they were added
+     * if {@code comparator} is null. The list stays sorted as persons are added, edited and filtered.
+     */
+    void sortFilteredPersonList(Comparator<Person> comparator);
 }
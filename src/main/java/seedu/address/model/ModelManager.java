@@ -4,13 +4,18 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.IndexedPersonPredicate;
 import seedu.address.model.person.Person;
 
 /**
@@ -22,6 +27,21 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    /**
+     * {@code filteredPersons} in sorted order, which is kept up to date one change at a time instead of resorted, or
+     * null if the persons are listed in the order they were added. It is only created while the list is sorted, as it
+     * keeps a reference to every person in it, which would undo storing the persons compactly.
+     */
+    private SortedList<Person> sortedPersons;
+    /** The filtered person list, which shows {@code sortedPersons} if there is one, or else {@code filteredPersons}. */
+    private final SwitchableListView<Person> personListView;
+    /** The number of batch updates in progress. */
+    private int batchDepth;
+    /** The filter to apply to {@code filteredPersons} once the outermost batch update ends, or null if none. */
+    private Predicate<Person> pendingPredicate;
+    private boolean hasPendingComparator;
+    /** The comparator to sort the filtered person list by once the outermost batch update ends. */
+    private Comparator<Person> pendingComparator;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -31,9 +51,12 @@ public class ModelManager implements Model {
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        this.addressBook = new AddressBook(addressBook);
+        this.addressBook = userPrefs.isCompactPersonStorage()
+                ? AddressBook.createCompact(addressBook)
+                : new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        personListView = new SwitchableListView<>(filteredPersons);
     }
 
     public ModelManager() {
@@ -87,6 +110,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookModificationCount() {
+        return addressBook.getModificationCount();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -104,6 +132,11 @@ public class ModelManager implements Model {
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addPersons(List<Person> persons) {
+        addressBook.addPersons(persons);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
@@ -111,23 +144,118 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    /**
+     * {@inheritDoc}
+     * Changes to the filter and order of the filtered person list made during the batch are only applied once the batch
+     * ends, and are dropped along with the other changes if the batch fails.
+     */
+    @Override
+    public void batchUpdate(Runnable changes) {
+        requireNonNull(changes);
+        Predicate<Person> pendingPredicateBefore = pendingPredicate;
+        boolean hasPendingComparatorBefore = hasPendingComparator;
+        Comparator<Person> pendingComparatorBefore = pendingComparator;
+        batchDepth++;
+        try {
+            addressBook.batchUpdate(changes);
+        } catch (RuntimeException | Error e) {
+            pendingPredicate = pendingPredicateBefore;
+            hasPendingComparator = hasPendingComparatorBefore;
+            pendingComparator = pendingComparatorBefore;
+            throw e;
+        } finally {
+            batchDepth--;
+            if (batchDepth == 0) {
+                applyPendingViewChanges();
+            }
+        }
+    }
+
+    /**
+     * Applies the changes to the filter and order of the filtered person list made during the batch that just ended.
+     */
+    private void applyPendingViewChanges() {
+        if (pendingPredicate != null) {
+            Predicate<Person> predicate = pendingPredicate;
+            pendingPredicate = null;
+            if (predicate != filteredPersons.getPredicate()) {
+                filteredPersons.setPredicate(predicate);
+            }
+        }
+        if (hasPendingComparator) {
+            Comparator<Person> comparator = pendingComparator;
+            hasPendingComparator = false;
+            pendingComparator = null;
+            setComparator(comparator);
+        }
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
      * Returns an unmodifiable view of the list of {@code Person} backed by the internal list of
-     * {@code versionedAddressBook}
+     * {@code versionedAddressBook}, in sorted order
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return personListView;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        if (batchDepth > 0) {
+            // Refiltering now would include changes that the filtered list is only told of when the batch ends
+            pendingPredicate = predicate;
+            return;
+        }
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredPersonList(IndexedPersonPredicate predicate) {
+        requireNonNull(predicate);
+        if (batchDepth > 0) {
+            // The indexes may not match the filtered list until the batch ends, so test every person then
+            updateFilteredPersonList((Predicate<Person>) predicate);
+            return;
+        }
+        if (!addressBook.hasIndexes()) {
+            // Finding the initial matches would test every person, which filtering by the predicate does anyway
+            filteredPersons.setPredicate(predicate);
+            return;
+        }
+        InitialMatchesPredicate filter = new InitialMatchesPredicate(predicate, addressBook.findPersons(predicate));
+        filteredPersons.setPredicate(filter);
+        filter.forgetInitialMatches();
+    }
+
+    @Override
+    public void sortFilteredPersonList(Comparator<Person> comparator) {
+        if (batchDepth > 0) {
+            hasPendingComparator = true;
+            pendingComparator = comparator;
+            return;
+        }
+        setComparator(comparator);
+    }
+
+    /**
+     * Sorts the filtered person list by {@code comparator}, creating the sorted view of {@code filteredPersons} if
+     * there is none, or drops the sorted view if {@code comparator} is null.
+     */
+    private void setComparator(Comparator<Person> comparator) {
+        if (comparator == null) {
+            sortedPersons = null;
+            personListView.setSource(filteredPersons);
+        } else if (sortedPersons == null) {
+            sortedPersons = new SortedList<>(filteredPersons, comparator);
+            personListView.setSource(sortedPersons);
+        } else {
+            sortedPersons.setComparator(comparator);
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -142,7 +270,31 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons);
+                && personListView.equals(otherModelManager.personListView);
     }
 
+    /**
+     * A filter that looks persons up in the persons already found to satisfy {@code predicate} while the filtered list
+     * is being refiltered, and tests them against {@code predicate} afterwards, so that the found persons, which may
+     * later be removed or edited, are not kept.
+     */
+    private static class InitialMatchesPredicate implements Predicate<Person> {
+
+        private final Predicate<Person> predicate;
+        private Set<Person> initialMatches;
+
+        InitialMatchesPredicate(Predicate<Person> predicate, Set<Person> initialMatches) {
+            this.predicate = predicate;
+            this.initialMatches = initialMatches;
+        }
+
+        void forgetInitialMatches() {
+            initialMatches = null;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return initialMatches == null ? predicate.test(person) : initialMatches.contains(person);
+        }
+    }
 }
@@ -1,7 +1,15 @@
 package seedu.address.model;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
 
 /**
  * Unmodifiable view of an address book
@@ -14,4 +22,27 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns an unmodifiable copy of the persons list, which later changes to this address book do not affect.
+     */
+    default ObservableList<Person> copyPersonList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(getPersonList()));
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons with each tag, keyed by tag.
+     * Only tags that at least one person has are keys, so the key set is the set of tags in use.
+     * By default, the persons are grouped by tag on each call, and the map does not reflect later changes.
+     */
+    default Map<Tag, Set<Person>> getPersonsByTag() {
+        Map<Tag, Set<Person>> personsByTag = new HashMap<>();
+        for (Person person : getPersonList()) {
+            for (Tag tag : person.getTags()) {
+                personsByTag.computeIfAbsent(tag, unused -> new HashSet<>()).add(person);
+            }
+        }
+        personsByTag.replaceAll((tag, taggedPersons) -> Collections.unmodifiableSet(taggedPersons));
+        return Collections.unmodifiableMap(personsByTag);
+    }
+
 }
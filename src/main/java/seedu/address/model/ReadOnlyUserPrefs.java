@@ -13,4 +13,27 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns true if the address book should store its persons compactly, using less memory at the cost of slower
+     * searches.
+     */
+    boolean isCompactPersonStorage();
+
+    /**
+     * Returns true if changes to the address book should be appended to a journal, instead of rewriting the whole
+     * address book file on every save.
+     */
+    boolean isAddressBookJournalEnabled();
+
+    /**
+     * Returns true if the address book should be saved as a binary snapshot instead of as JSON.
+     */
+    boolean isBinaryAddressBookFormat();
+
+    /**
+     * Returns true if the main window should be shown before the address book has been loaded, with the persons added
+     * to it as they are loaded.
+     */
+    boolean isProgressiveLoadingEnabled();
+
 }
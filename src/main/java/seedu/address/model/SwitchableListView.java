@@ -0,0 +1,93 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * An unmodifiable view of an observable list, whose source list can be switched to another one.
+ *
+ * Changes to the current source are passed on to the listeners of the view as they are. Switching the source is passed
+ * on as a single change that replaces every element of the view, so the listeners can keep using the same view instead
+ * of having to rebind to a new list.
+ */
+class SwitchableListView<E> extends ObservableListBase<E> {
+
+    private final ListChangeListener<E> sourceListener = this::passOnChange;
+    private ObservableList<? extends E> source;
+
+    /**
+     * Creates a view of {@code source}.
+     */
+    SwitchableListView(ObservableList<? extends E> source) {
+        requireNonNull(source);
+        this.source = source;
+        source.addListener(sourceListener);
+    }
+
+    /**
+     * Switches the source of this view to {@code newSource}, and stops listening to the old source, so that it can be
+     * garbage collected.
+     */
+    void setSource(ObservableList<? extends E> newSource) {
+        requireNonNull(newSource);
+        if (newSource == source) {
+            return;
+        }
+        source.removeListener(sourceListener);
+        List<E> oldElements = new ArrayList<>(source);
+        source = newSource;
+        newSource.addListener(sourceListener);
+
+        beginChange();
+        if (!oldElements.isEmpty()) {
+            nextRemove(0, oldElements);
+        }
+        if (!newSource.isEmpty()) {
+            nextAdd(0, newSource.size());
+        }
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return source.get(index);
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+
+    private void passOnChange(ListChangeListener.Change<? extends E> change) {
+        beginChange();
+        while (change.next()) {
+            int from = change.getFrom();
+            int to = change.getTo();
+            if (change.wasPermutated()) {
+                int[] permutation = new int[to - from];
+                for (int i = from; i < to; i++) {
+                    permutation[i - from] = change.getPermutation(i);
+                }
+                nextPermutation(from, to, permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = from; i < to; i++) {
+                    nextUpdate(i);
+                }
+            } else {
+                if (change.wasRemoved()) {
+                    nextRemove(from, change.getRemoved());
+                }
+                if (change.wasAdded()) {
+                    nextAdd(from, to);
+                }
+            }
+        }
+        endChange();
+    }
+}
@@ -15,6 +15,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private boolean compactPersonStorage = false;
+    private boolean addressBookJournalEnabled = false;
+    private boolean binaryAddressBookFormat = false;
+    private boolean progressiveLoadingEnabled = false;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +40,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setCompactPersonStorage(newUserPrefs.isCompactPersonStorage());
+        setAddressBookJournalEnabled(newUserPrefs.isAddressBookJournalEnabled());
+        setBinaryAddressBookFormat(newUserPrefs.isBinaryAddressBookFormat());
+        setProgressiveLoadingEnabled(newUserPrefs.isProgressiveLoadingEnabled());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +64,38 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public boolean isCompactPersonStorage() {
+        return compactPersonStorage;
+    }
+
+    public void setCompactPersonStorage(boolean compactPersonStorage) {
+        this.compactPersonStorage = compactPersonStorage;
+    }
+
+    public boolean isAddressBookJournalEnabled() {
+        return addressBookJournalEnabled;
+    }
+
+    public void setAddressBookJournalEnabled(boolean addressBookJournalEnabled) {
+        this.addressBookJournalEnabled = addressBookJournalEnabled;
+    }
+
+    public boolean isBinaryAddressBookFormat() {
+        return binaryAddressBookFormat;
+    }
+
+    public void setBinaryAddressBookFormat(boolean binaryAddressBookFormat) {
+        this.binaryAddressBookFormat = binaryAddressBookFormat;
+    }
+
+    public boolean isProgressiveLoadingEnabled() {
+        return progressiveLoadingEnabled;
+    }
+
+    public void setProgressiveLoadingEnabled(boolean progressiveLoadingEnabled) {
+        this.progressiveLoadingEnabled = progressiveLoadingEnabled;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +109,17 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && compactPersonStorage == otherUserPrefs.compactPersonStorage
+                && addressBookJournalEnabled == otherUserPrefs.addressBookJournalEnabled
+                && binaryAddressBookFormat == otherUserPrefs.binaryAddressBookFormat
+                && progressiveLoadingEnabled == otherUserPrefs.progressiveLoadingEnabled;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, compactPersonStorage,
+                addressBookJournalEnabled, binaryAddressBookFormat, progressiveLoadingEnabled);
     }
 
     @Override
@@ -82,6 +127,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nCompact person storage : " + compactPersonStorage);
+        sb.append("\nAddress book journal enabled : " + addressBookJournalEnabled);
+        sb.append("\nBinary address book format : " + binaryAddressBookFormat);
+        sb.append("\nProgressive loading enabled : " + progressiveLoadingEnabled);
         return sb.toString();
     }
 
@@ -0,0 +1,128 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable list of persons whose changes can be batched, so that its listeners are notified of many changes at
+ * once instead of once per change.
+ *
+ * Changes made between {@link #beginBatch()} and the matching {@link #endBatch()} are combined into a single
+ * {@code ListChangeListener.Change}, which is fired when the batch ends. Batches may be nested, in which case the
+ * listeners are only notified when the outermost batch ends.
+ */
+public abstract class BatchablePersonList extends ModifiableObservableListBase<Person> {
+
+    /**
+     * Creates an empty list that keeps its persons as {@code Person} objects.
+     */
+    public static BatchablePersonList create() {
+        return new ArrayPersonList();
+    }
+
+    /**
+     * Starts a batch of changes. Every call must be followed by a call to {@link #endBatch()}.
+     */
+    public void beginBatch() {
+        beginChange();
+    }
+
+    /**
+     * Ends the batch of changes started by the matching call to {@link #beginBatch()}, notifying the listeners of all
+     * the changes made in it if it is the outermost batch.
+     */
+    public void endBatch() {
+        endChange();
+    }
+
+    /**
+     * Returns a copy of this list, which later changes to this list do not affect, and which has no listeners.
+     * The copy is taken without creating any {@code Person} objects.
+     */
+    public abstract BatchablePersonList copy();
+
+    /**
+     * A {@code BatchablePersonList} backed by an {@code ArrayList}, which adds and removes ranges of persons as single
+     * changes to the {@code ArrayList}, as the list returned by {@code FXCollections#observableArrayList()} does.
+     */
+    private static class ArrayPersonList extends BatchablePersonList {
+
+        private final List<Person> persons = new ArrayList<>();
+
+        @Override
+        public Person get(int index) {
+            return persons.get(index);
+        }
+
+        @Override
+        public int size() {
+            return persons.size();
+        }
+
+        @Override
+        public BatchablePersonList copy() {
+            ArrayPersonList copy = new ArrayPersonList();
+            copy.persons.addAll(persons);
+            return copy;
+        }
+
+        @Override
+        protected void doAdd(int index, Person person) {
+            requireNonNull(person);
+            persons.add(index, person);
+        }
+
+        @Override
+        protected Person doSet(int index, Person person) {
+            requireNonNull(person);
+            return persons.set(index, person);
+        }
+
+        @Override
+        protected Person doRemove(int index) {
+            return persons.remove(index);
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends Person> toAdd) {
+            return addAll(size(), toAdd);
+        }
+
+        @Override
+        public boolean addAll(int index, Collection<? extends Person> toAdd) {
+            requireAllNonNull(toAdd);
+            if (toAdd.isEmpty()) {
+                return false;
+            }
+            beginChange();
+            try {
+                persons.addAll(index, toAdd);
+                nextAdd(index, index + toAdd.size());
+            } finally {
+                endChange();
+            }
+            return true;
+        }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            if (fromIndex == toIndex) {
+                return;
+            }
+            beginChange();
+            try {
+                List<Person> removedPersons = persons.subList(fromIndex, toIndex);
+                nextRemove(fromIndex, new ArrayList<>(removedPersons));
+                removedPersons.clear();
+            } finally {
+                endChange();
+            }
+        }
+    }
+}
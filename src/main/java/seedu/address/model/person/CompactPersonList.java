@@ -0,0 +1,232 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * An observable list of persons that stores its persons column-wise instead of as {@code Person} objects, to reduce
+ * the memory used by large address books.
+ *
+ * The name, phone, email and address of each person are stored together as one UTF-8 encoded record. Each tag in use
+ * is given a number in a tag dictionary, and the tags of each person are stored as a bit set over those numbers.
+ * {@code Person} objects are only created when a person is read from the list, and are not kept, so reading the same
+ * position twice returns equal but different objects.
+ *
+ * Tags are never removed from the tag dictionary, even when no person has them any more.
+ */
+public class CompactPersonList extends BatchablePersonList {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int BITS_PER_WORD = Long.SIZE;
+
+    private final List<Tag> tagsByNumber = new ArrayList<>();
+    private final Map<Tag, Integer> tagNumbers = new HashMap<>();
+
+    private byte[][] records = new byte[INITIAL_CAPACITY][];
+    /** Bits for tag numbers below 64, the only ones used unless the book has more than 64 distinct tags. */
+    private long[] tagBits = new long[INITIAL_CAPACITY];
+    /** Bits for tag numbers from 64 onwards, or null if no person has such a tag. */
+    private long[][] moreTagBits;
+    private int size;
+
+    @Override
+    public Person get(int index) {
+        checkIndex(index);
+        return toPerson(records[index], tagBits[index], moreTagBits == null ? null : moreTagBits[index]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Records and tag bits are never changed once stored, only replaced, so the copy shares them with this list.
+     */
+    @Override
+    public CompactPersonList copy() {
+        CompactPersonList copy = new CompactPersonList();
+        copy.tagsByNumber.addAll(tagsByNumber);
+        copy.tagNumbers.putAll(tagNumbers);
+        copy.records = records.clone();
+        copy.tagBits = tagBits.clone();
+        copy.moreTagBits = moreTagBits == null ? null : moreTagBits.clone();
+        copy.size = size;
+        return copy;
+    }
+
+    @Override
+    protected void doAdd(int index, Person person) {
+        requireNonNull(person);
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        ensureCapacity(size + 1);
+        System.arraycopy(records, index, records, index + 1, size - index);
+        System.arraycopy(tagBits, index, tagBits, index + 1, size - index);
+        if (moreTagBits != null) {
+            System.arraycopy(moreTagBits, index, moreTagBits, index + 1, size - index);
+            moreTagBits[index] = null;
+        }
+        size++;
+        store(index, person);
+    }
+
+    @Override
+    protected Person doSet(int index, Person person) {
+        requireNonNull(person);
+        Person oldPerson = get(index);
+        store(index, person);
+        return oldPerson;
+    }
+
+    @Override
+    protected Person doRemove(int index) {
+        Person oldPerson = get(index);
+        int numMoved = size - index - 1;
+        System.arraycopy(records, index + 1, records, index, numMoved);
+        System.arraycopy(tagBits, index + 1, tagBits, index, numMoved);
+        if (moreTagBits != null) {
+            System.arraycopy(moreTagBits, index + 1, moreTagBits, index, numMoved);
+            moreTagBits[size - 1] = null;
+        }
+        records[size - 1] = null;
+        size--;
+        return oldPerson;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity <= records.length) {
+            return;
+        }
+        int newCapacity = Math.max(minCapacity, records.length + (records.length >> 1));
+        records = Arrays.copyOf(records, newCapacity);
+        tagBits = Arrays.copyOf(tagBits, newCapacity);
+        if (moreTagBits != null) {
+            moreTagBits = Arrays.copyOf(moreTagBits, newCapacity);
+        }
+    }
+
+    /**
+     * Stores the fields of {@code person} at {@code index}, overwriting whatever was stored there.
+     */
+    private void store(int index, Person person) {
+        records[index] = encodeRecord(person);
+
+        long bits = 0;
+        long[] moreBits = null;
+        for (Tag tag : person.getTags()) {
+            int tagNumber = tagNumberOf(tag);
+            if (tagNumber < BITS_PER_WORD) {
+                bits |= 1L << tagNumber;
+                continue;
+            }
+            int word = tagNumber / BITS_PER_WORD - 1;
+            if (moreBits == null || moreBits.length <= word) {
+                moreBits = moreBits == null ? new long[word + 1] : Arrays.copyOf(moreBits, word + 1);
+            }
+            moreBits[word] |= 1L << (tagNumber % BITS_PER_WORD);
+        }
+        tagBits[index] = bits;
+        if (moreBits != null && moreTagBits == null) {
+            moreTagBits = new long[records.length][];
+        }
+        if (moreTagBits != null) {
+            moreTagBits[index] = moreBits;
+        }
+    }
+
+    private int tagNumberOf(Tag tag) {
+        return tagNumbers.computeIfAbsent(tag, unused -> {
+            tagsByNumber.add(Tag.of(tag.tagName));
+            return tagsByNumber.size() - 1;
+        });
+    }
+
+    private Person toPerson(byte[] record, long bits, long[] moreBits) {
+        Set<Tag> tags = new HashSet<>();
+        addTags(tags, bits, 0);
+        if (moreBits != null) {
+            for (int word = 0; word < moreBits.length; word++) {
+                addTags(tags, moreBits[word], (word + 1) * BITS_PER_WORD);
+            }
+        }
+
+        RecordReader reader = new RecordReader(record);
+        return new Person(new Name(reader.next()), new Phone(reader.next()), new Email(reader.next()),
+                new Address(reader.next()), tags);
+    }
+
+    private void addTags(Set<Tag> tags, long bits, int firstTagNumber) {
+        while (bits != 0) {
+            tags.add(tagsByNumber.get(firstTagNumber + Long.numberOfTrailingZeros(bits)));
+            bits &= bits - 1;
+        }
+    }
+
+    /**
+     * Encodes the name, phone, email and address of {@code person}, in that order, each as its length in bytes
+     * followed by its UTF-8 bytes. Lengths are written 7 bits at a time, least significant first, with the top bit of
+     * each byte set if more bytes follow.
+     */
+    private static byte[] encodeRecord(Person person) {
+        ByteArrayOutputStream record = new ByteArrayOutputStream();
+        for (String field : new String[] {person.getName().fullName, person.getPhone().value,
+                person.getEmail().value, person.getAddress().value}) {
+            byte[] bytes = field.getBytes(StandardCharsets.UTF_8);
+            int length = bytes.length;
+            while (length >= 0x80) {
+                record.write((length & 0x7F) | 0x80);
+                length >>>= 7;
+            }
+            record.write(length);
+            record.write(bytes, 0, bytes.length);
+        }
+        return record.toByteArray();
+    }
+
+    /**
+     * Reads the fields of a record written by {@link #encodeRecord(Person)} one at a time.
+     */
+    private static class RecordReader {
+        private final byte[] record;
+        private int position;
+
+        RecordReader(byte[] record) {
+            this.record = record;
+        }
+
+        String next() {
+            int length = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = record[position++];
+                length |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+
+            String field = new String(record, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return field;
+        }
+    }
+}
@@ -39,16 +39,77 @@ public class Email {
      * @param email A valid email address.
      */
     public Email(String email) {
+        this(email, false);
+    }
+
+    private Email(String email, boolean isKnownValid) {
         requireNonNull(email);
-        checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
+        checkArgument(isKnownValid || isValidEmail(email), MESSAGE_CONSTRAINTS);
         value = email;
     }
 
+    /**
+     * Returns an {@code Email} of {@code email}, which is already known to be valid, without checking it again.
+     */
+    static Email ofKnownValid(String email) {
+        return new Email(email, true);
+    }
+
     /**
      * Returns if a given string is a valid email.
+     * The string is checked in a single scan that accepts the same strings as {@link #VALIDATION_REGEX}, as matching
+     * the regex itself takes polynomial time, and overflows the stack, on long invalid strings.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        int atIndex = test.indexOf('@');
+        return atIndex != -1 && isValidLocalPart(test, atIndex) && isValidDomain(test, atIndex + 1);
+    }
+
+    /**
+     * Returns true if the first {@code end} characters of {@code test} are alphanumeric characters, separated by
+     * single special characters.
+     */
+    private static boolean isValidLocalPart(String test, int end) {
+        for (int i = 0; i < end; i++) {
+            char c = test.charAt(i);
+            boolean isSeparator = SPECIAL_CHARACTERS.indexOf(c) != -1;
+            if (!isAlphanumeric(c) && !(isSeparator && i > 0 && i < end - 1 && isAlphanumeric(test.charAt(i - 1)))) {
+                return false;
+            }
+        }
+        return end > 0 && isAlphanumeric(test.charAt(end - 1));
+    }
+
+    /**
+     * Returns true if the characters of {@code test} from {@code start} are domain labels separated by periods, where
+     * each label is made of alphanumeric characters separated by single hyphens, and the last label has at least two
+     * alphanumeric characters in a row.
+     */
+    private static boolean isValidDomain(String test, int start) {
+        boolean hasAdjacentAlphanumerics = false;
+        for (int i = start; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (isAlphanumeric(c)) {
+                hasAdjacentAlphanumerics |= i > start && isAlphanumeric(test.charAt(i - 1));
+                continue;
+            }
+            boolean isSeparator = c == '-' || c == '.';
+            if (!isSeparator || i == start || i == test.length() - 1 || !isAlphanumeric(test.charAt(i - 1))) {
+                return false;
+            }
+            if (c == '.') {
+                // only the last label has to have two alphanumeric characters in a row
+                hasAdjacentAlphanumerics = false;
+            }
+        }
+        return hasAdjacentAlphanumerics;
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit, as matched by {@code [^\W_]}.
+     */
+    private static boolean isAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
     }
 
     @Override
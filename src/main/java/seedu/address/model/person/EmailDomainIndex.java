@@ -0,0 +1,97 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An index of persons by the domain of their email address, for finding all persons with an email address at a
+ * domain or any of its subdomains.
+ * Domains are stored with their labels reversed (e.g. {@code mail.example.com} as {@code com.example.mail.}), so that
+ * a domain and all of its subdomains form one contiguous range of keys. Domains are matched ignoring case.
+ *
+ * The index does not enforce uniqueness; callers are responsible for adding and removing each person exactly once.
+ */
+public class EmailDomainIndex {
+
+    private final TreeMap<String, Set<Person>> personsByReversedDomain = new TreeMap<>();
+
+    /**
+     * Adds {@code person} under the domain of its email address.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        personsByReversedDomain.computeIfAbsent(reversedDomainOf(person), unused -> new HashSet<>()).add(person);
+    }
+
+    /**
+     * Removes {@code person} from under the domain of its email address.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        String key = reversedDomainOf(person);
+        Set<Person> persons = personsByReversedDomain.get(key);
+        if (persons == null) {
+            return;
+        }
+        persons.remove(person);
+        if (persons.isEmpty()) {
+            personsByReversedDomain.remove(key);
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with {@code persons}.
+     */
+    public void setPersons(Collection<Person> persons) {
+        requireNonNull(persons);
+        personsByReversedDomain.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the persons whose email address is at {@code domain} or one of its subdomains.
+     * A leading {@code @} in {@code domain} is ignored, e.g. {@code @example.com} matches {@code a@example.com} and
+     * {@code b@mail.example.com}, but not {@code c@myexample.com}. The returned set compares persons by reference.
+     */
+    public Set<Person> findPersons(String domain) {
+        requireNonNull(domain);
+        String trimmedDomain = domain.trim();
+        if (trimmedDomain.startsWith("@")) {
+            trimmedDomain = trimmedDomain.substring(1);
+        }
+
+        Set<Person> matchingPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (trimmedDomain.isEmpty()) {
+            return matchingPersons;
+        }
+        String keyPrefix = reverseDomain(trimmedDomain);
+        personsByReversedDomain.subMap(keyPrefix, keyPrefix + Character.MAX_VALUE).values()
+                .forEach(matchingPersons::addAll);
+        return matchingPersons;
+    }
+
+    private static String reversedDomainOf(Person person) {
+        String email = person.getEmail().value;
+        return reverseDomain(email.substring(email.lastIndexOf('@') + 1));
+    }
+
+    /**
+     * Returns {@code domain} lower-cased, with its labels in reverse order and a trailing dot,
+     * e.g. {@code Mail.Example.com} becomes {@code com.example.mail.}.
+     */
+    private static String reverseDomain(String domain) {
+        String[] labels = domain.toLowerCase(Locale.ROOT).split("\\.");
+        StringBuilder reversed = new StringBuilder(domain.length() + 1);
+        for (int i = labels.length - 1; i >= 0; i--) {
+            reversed.append(labels[i]).append('.');
+        }
+        return reversed.toString();
+    }
+}
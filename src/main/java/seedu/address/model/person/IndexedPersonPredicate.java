@@ -0,0 +1,18 @@
+package seedu.address.model.person;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A {@code Predicate} on persons that can also be evaluated against a {@code PersonIndex}, so that all matching
+ * persons can be found without testing every person.
+ */
+public interface IndexedPersonPredicate extends Predicate<Person> {
+
+    /**
+     * Returns the persons in {@code personIndex} that satisfy this predicate.
+     * The result must contain exactly the indexed persons for which {@link #test(Object)} returns true, and compares
+     * persons by reference.
+     */
+    Set<Person> findMatches(PersonIndex personIndex);
+}
@@ -1,7 +1,7 @@
 package seedu.address.model.person;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
@@ -9,17 +9,27 @@ import seedu.address.commons.util.ToStringBuilder;
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Person> {
+public class NameContainsKeywordsPredicate implements IndexedPersonPredicate {
     private final List<String> keywords;
+    private final StringUtil.WordMatcher keywordMatcher;
 
+    /**
+     * Creates a {@code NameContainsKeywordsPredicate} that matches names containing any of the {@code keywords}.
+     * Each keyword must be a single, non-empty word.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.keywordMatcher = StringUtil.wordMatcherIgnoreCase(keywords);
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        return keywordMatcher.matches(person.getName().fullName);
+    }
+
+    @Override
+    public Set<Person> findMatches(PersonIndex personIndex) {
+        return personIndex.findByNameKeywords(keywords);
     }
 
     @Override
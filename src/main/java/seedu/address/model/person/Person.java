@@ -37,6 +37,16 @@ public class Person {
         this.tags.addAll(tags);
     }
 
+    /**
+     * Returns a person with the given field values, which are already known to be valid, without validating them
+     * again, e.g. the values of a saved person read back from a snapshot whose checksum shows it is unchanged.
+     * Passing values that are not valid breaks the guarantees of the field classes.
+     */
+    public static Person ofKnownValidValues(String name, String phone, String email, String address, Set<Tag> tags) {
+        return new Person(Name.ofKnownValid(name), Phone.ofKnownValid(phone), Email.ofKnownValid(email),
+                Address.ofKnownValid(address), tags);
+    }
+
     public Name getName() {
         return name;
     }
@@ -0,0 +1,161 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Secondary indexes over the fields of a collection of persons, used to answer searches without scanning every
+ * person. Every mutation of the indexed collection must be mirrored here.
+ *
+ * Sets returned by the {@code find} methods compare persons by reference.
+ *
+ * @see IndexedPersonPredicate
+ */
+public class PersonIndex {
+
+    private final WordIndex nameWords = new WordIndex(person -> person.getName().fullName);
+    private final WordIndex addressWords = new WordIndex(person -> person.getAddress().value);
+    private final PhonePrefixTrie phones = new PhonePrefixTrie();
+    private final EmailDomainIndex emailDomains = new EmailDomainIndex();
+    private final Map<Tag, Set<Person>> personsByTag = new HashMap<>();
+    private final Map<Tag, Set<Person>> unmodifiablePersonsByTag = new HashMap<>();
+
+    /**
+     * Adds {@code person} to all indexes.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        nameWords.add(person);
+        addressWords.add(person);
+        phones.add(person);
+        emailDomains.add(person);
+        addTags(person);
+    }
+
+    /**
+     * Removes {@code person} from all indexes.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        nameWords.remove(person);
+        addressWords.remove(person);
+        phones.remove(person);
+        emailDomains.remove(person);
+        removeTags(person);
+    }
+
+    /**
+     * Replaces the contents of all indexes with {@code persons}.
+     */
+    public void setPersons(Collection<Person> persons) {
+        requireNonNull(persons);
+        nameWords.setPersons(persons);
+        addressWords.setPersons(persons);
+        phones.setPersons(persons);
+        emailDomains.setPersons(persons);
+        personsByTag.clear();
+        unmodifiablePersonsByTag.clear();
+        persons.forEach(this::addTags);
+    }
+
+    /**
+     * Returns the persons whose name contains any of the {@code keywords} as a full word, ignoring case.
+     */
+    public Set<Person> findByNameKeywords(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<Person> matchingPersons = newIdentitySet();
+        keywords.forEach(keyword -> matchingPersons.addAll(nameWords.getPersons(keyword)));
+        return matchingPersons;
+    }
+
+    /**
+     * Returns the persons whose address contains all of the {@code keywords} as full words, ignoring case.
+     */
+    public Set<Person> findByAddressKeywords(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<Person> matchingPersons = null;
+        for (String keyword : keywords) {
+            Set<Person> postings = addressWords.getPersons(keyword);
+            if (matchingPersons == null) {
+                matchingPersons = newIdentitySet();
+                matchingPersons.addAll(postings);
+            } else {
+                matchingPersons.retainAll(postings);
+            }
+        }
+        return matchingPersons == null ? newIdentitySet() : matchingPersons;
+    }
+
+    /**
+     * Returns the persons whose phone number starts with {@code prefix}.
+     *
+     * @see PhonePrefixTrie#findPersons(String)
+     */
+    public Set<Person> findByPhonePrefix(String prefix) {
+        return phones.findPersons(prefix);
+    }
+
+    /**
+     * Returns the persons whose email address is at {@code domain} or one of its subdomains.
+     *
+     * @see EmailDomainIndex#findPersons(String)
+     */
+    public Set<Person> findByEmailDomain(String domain) {
+        return emailDomains.findPersons(domain);
+    }
+
+    /**
+     * Returns the persons tagged with {@code tag}.
+     */
+    public Set<Person> findByTag(Tag tag) {
+        requireNonNull(tag);
+        Set<Person> matchingPersons = newIdentitySet();
+        matchingPersons.addAll(personsByTag.getOrDefault(tag, Collections.emptySet()));
+        return matchingPersons;
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons with each tag in use, keyed by tag.
+     * The view, and each of its sets, reflects later changes to the index.
+     */
+    public Map<Tag, Set<Person>> getPersonsByTag() {
+        return Collections.unmodifiableMap(unmodifiablePersonsByTag);
+    }
+
+    private void addTags(Person person) {
+        for (Tag tag : person.getTags()) {
+            personsByTag.computeIfAbsent(tag, unused -> {
+                Set<Person> persons = new HashSet<>();
+                unmodifiablePersonsByTag.put(tag, Collections.unmodifiableSet(persons));
+                return persons;
+            }).add(person);
+        }
+    }
+
+    private void removeTags(Person person) {
+        for (Tag tag : person.getTags()) {
+            Set<Person> persons = personsByTag.get(tag);
+            if (persons == null) {
+                continue;
+            }
+            persons.remove(person);
+            if (persons.isEmpty()) {
+                personsByTag.remove(tag);
+                unmodifiablePersonsByTag.remove(tag);
+            }
+        }
+    }
+
+    private static Set<Person> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
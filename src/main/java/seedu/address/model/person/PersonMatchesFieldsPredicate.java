@@ -0,0 +1,161 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Tests that a {@code Person} matches every given search criterion:
+ * <ul>
+ *     <li>its name contains any of the name keywords,</li>
+ *     <li>its phone number starts with the phone prefix,</li>
+ *     <li>its email address is at the email domain or one of its subdomains,</li>
+ *     <li>its address contains all of the address keywords, and</li>
+ *     <li>it has all of the tags.</li>
+ * </ul>
+ * Criteria that are not given are not checked. Keywords and domains are matched ignoring case.
+ */
+public class PersonMatchesFieldsPredicate implements IndexedPersonPredicate {
+
+    public static final String MESSAGE_NO_CRITERIA = "At least one search criterion must be given";
+
+    private final List<String> nameKeywords;
+    private final Optional<String> phonePrefix;
+    private final Optional<String> emailDomain;
+    private final List<String> addressKeywords;
+    private final Set<Tag> tags;
+
+    /**
+     * Every field must be present and not null, and at least one criterion must be given.
+     * A leading {@code @} and trailing dots in {@code emailDomain} are ignored.
+     */
+    public PersonMatchesFieldsPredicate(List<String> nameKeywords, Optional<String> phonePrefix,
+            Optional<String> emailDomain, List<String> addressKeywords, Set<Tag> tags) {
+        requireAllNonNull(nameKeywords, phonePrefix, emailDomain, addressKeywords, tags);
+        checkArgument(!nameKeywords.isEmpty() || phonePrefix.isPresent() || emailDomain.isPresent()
+                || !addressKeywords.isEmpty() || !tags.isEmpty(), MESSAGE_NO_CRITERIA);
+
+        this.nameKeywords = new ArrayList<>(nameKeywords);
+        this.phonePrefix = phonePrefix;
+        this.emailDomain = emailDomain.map(PersonMatchesFieldsPredicate::normaliseEmailDomain);
+        this.addressKeywords = addressKeywords.stream()
+                .map(keyword -> keyword.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toList());
+        this.tags = new HashSet<>(tags);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        requireNonNull(person);
+        return matchesName(person)
+                && phonePrefix.map(person.getPhone().value::startsWith).orElse(true)
+                && emailDomain.map(domain -> isAtDomain(person.getEmail(), domain)).orElse(true)
+                && matchesAddress(person)
+                && person.getTags().containsAll(tags);
+    }
+
+    /**
+     * Looks up each given criterion in {@code personIndex}, then checks the remaining criteria directly against the
+     * persons of the smallest lookup result only.
+     */
+    @Override
+    public Set<Person> findMatches(PersonIndex personIndex) {
+        requireNonNull(personIndex);
+        List<Set<Person>> candidates = new ArrayList<>();
+        if (!nameKeywords.isEmpty()) {
+            candidates.add(personIndex.findByNameKeywords(nameKeywords));
+        }
+        phonePrefix.ifPresent(prefix -> candidates.add(personIndex.findByPhonePrefix(prefix)));
+        emailDomain.ifPresent(domain -> candidates.add(personIndex.findByEmailDomain(domain)));
+        if (!addressKeywords.isEmpty()) {
+            candidates.add(personIndex.findByAddressKeywords(addressKeywords));
+        }
+        tags.forEach(tag -> candidates.add(personIndex.findByTag(tag)));
+
+        Set<Person> matchingPersons = Collections.min(candidates, Comparator.comparingInt(Set::size));
+        if (candidates.size() > 1) {
+            matchingPersons.removeIf(person -> !test(person));
+        }
+        return matchingPersons;
+    }
+
+    private boolean matchesName(Person person) {
+        if (nameKeywords.isEmpty()) {
+            return true;
+        }
+        Set<String> nameWords = WordIndex.wordsOf(person.getName().fullName);
+        return nameKeywords.stream().anyMatch(keyword -> nameWords.contains(keyword.toLowerCase(Locale.ROOT)));
+    }
+
+    private boolean matchesAddress(Person person) {
+        return addressKeywords.isEmpty() || WordIndex.wordsOf(person.getAddress().value).containsAll(addressKeywords);
+    }
+
+    /**
+     * Returns {@code domain} lower-cased, without a leading {@code @} or trailing dots, e.g. {@code @Example.com.}
+     * becomes {@code example.com}. Both {@link #test(Person)} and {@link #findMatches(PersonIndex)} match against this
+     * form, so that they always agree.
+     */
+    private static String normaliseEmailDomain(String domain) {
+        int end = domain.length();
+        while (end > 0 && domain.charAt(end - 1) == '.') {
+            end--;
+        }
+        int start = domain.startsWith("@") ? 1 : 0;
+        return domain.substring(start, Math.max(start, end)).toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isAtDomain(Email email, String domain) {
+        String emailDomain = email.value.substring(email.value.lastIndexOf('@') + 1).toLowerCase(Locale.ROOT);
+        return emailDomain.equals(domain) || emailDomain.endsWith("." + domain);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonMatchesFieldsPredicate)) {
+            return false;
+        }
+
+        PersonMatchesFieldsPredicate otherPredicate = (PersonMatchesFieldsPredicate) other;
+        return nameKeywords.equals(otherPredicate.nameKeywords)
+                && phonePrefix.equals(otherPredicate.phonePrefix)
+                && emailDomain.equals(otherPredicate.emailDomain)
+                && addressKeywords.equals(otherPredicate.addressKeywords)
+                && tags.equals(otherPredicate.tags);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(nameKeywords, phonePrefix, emailDomain, addressKeywords, tags);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("nameKeywords", nameKeywords)
+                .add("phonePrefix", phonePrefix.orElse(null))
+                .add("emailDomain", emailDomain.orElse(null))
+                .add("addressKeywords", addressKeywords)
+                .add("tags", tags)
+                .toString();
+    }
+}
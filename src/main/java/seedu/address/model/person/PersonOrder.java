@@ -0,0 +1,70 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * The orders in which the persons in the address book can be listed.
+ *
+ * Every order other than {@link #ADDED} breaks ties by name, and names identify persons, so no two persons in an
+ * address book are ever tied. A person's position in a sorted list therefore only depends on the persons in it, and
+ * not on the order in which they were added or edited.
+ */
+public enum PersonOrder {
+    ADDED("added", null),
+    NAME("name", byName()),
+    PHONE("phone", byField(person -> person.getPhone().value, Comparator.naturalOrder())),
+    EMAIL("email", byField(person -> person.getEmail().value, String.CASE_INSENSITIVE_ORDER)),
+    ADDRESS("address", byField(person -> person.getAddress().value, String.CASE_INSENSITIVE_ORDER));
+
+    private final String keyword;
+    private final Comparator<Person> comparator;
+
+    PersonOrder(String keyword, Comparator<Person> comparator) {
+        this.keyword = keyword;
+        this.comparator = comparator;
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    /**
+     * Returns the comparator that sorts persons in this order, or null if persons are listed in the order they were
+     * added.
+     */
+    public Comparator<Person> getComparator() {
+        return comparator;
+    }
+
+    /**
+     * Returns the order with the given keyword, ignoring case, or {@code Optional.empty()} if there is none.
+     */
+    public static Optional<PersonOrder> fromKeyword(String keyword) {
+        requireNonNull(keyword);
+        for (PersonOrder order : values()) {
+            if (order.keyword.equalsIgnoreCase(keyword)) {
+                return Optional.of(order);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns a comparator that sorts persons by name, ignoring case unless the names only differ in case.
+     */
+    private static Comparator<Person> byName() {
+        Function<Person, String> name = person -> person.getName().fullName;
+        return Comparator.comparing(name, String.CASE_INSENSITIVE_ORDER).thenComparing(name);
+    }
+
+    /**
+     * Returns a comparator that sorts persons by the field returned by {@code field}, and then by name.
+     */
+    private static Comparator<Person> byField(Function<Person, String> field, Comparator<String> fieldOrder) {
+        return Comparator.comparing(field, fieldOrder).thenComparing(byName());
+    }
+}
@@ -0,0 +1,137 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * A trie over the digits of persons' phone numbers, for finding all persons whose phone number starts with a prefix.
+ * Looking up a prefix costs the length of the prefix plus the size of the subtree below it, not the number of
+ * persons in the trie.
+ *
+ * The trie does not enforce uniqueness; callers are responsible for adding and removing each person exactly once.
+ */
+public class PhonePrefixTrie {
+
+    private Node root = new Node();
+
+    /**
+     * Adds {@code person} under its phone number.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        Node node = root;
+        for (char digit : person.getPhone().value.toCharArray()) {
+            int i = digit - '0';
+            if (node.children[i] == null) {
+                node.children[i] = new Node();
+            }
+            node = node.children[i];
+        }
+        node.persons.add(person);
+    }
+
+    /**
+     * Removes {@code person} from under its phone number, along with the nodes left with no persons below them.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        String phone = person.getPhone().value;
+        Node[] path = new Node[phone.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < phone.length(); i++) {
+            path[i + 1] = path[i].children[phone.charAt(i) - '0'];
+            if (path[i + 1] == null) {
+                return;
+            }
+        }
+        path[phone.length()].persons.remove(person);
+
+        for (int i = phone.length(); i > 0 && path[i].isEmpty(); i--) {
+            path[i - 1].children[phone.charAt(i - 1) - '0'] = null;
+        }
+    }
+
+    /**
+     * Replaces the contents of this trie with {@code persons}.
+     */
+    public void setPersons(Collection<Person> persons) {
+        requireNonNull(persons);
+        root = new Node();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns true if no persons are in this trie, and no nodes are left below its root.
+     */
+    boolean isEmpty() {
+        return root.isEmpty();
+    }
+
+    /**
+     * Returns the persons whose phone number starts with {@code prefix}.
+     * The returned set compares persons by reference. It is empty if {@code prefix} contains anything but digits.
+     */
+    public Set<Person> findPersons(String prefix) {
+        requireNonNull(prefix);
+        Set<Person> matchingPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        Node start = find(prefix);
+        if (start == null) {
+            return matchingPersons;
+        }
+
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(start);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            matchingPersons.addAll(node.persons);
+            for (Node child : node.children) {
+                if (child != null) {
+                    pending.push(child);
+                }
+            }
+        }
+        return matchingPersons;
+    }
+
+    /**
+     * Returns the node reached by following {@code digits} from the root, or null if there is none.
+     */
+    private Node find(String digits) {
+        Node node = root;
+        for (int i = 0; i < digits.length() && node != null; i++) {
+            int digit = digits.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return null;
+            }
+            node = node.children[digit];
+        }
+        return node;
+    }
+
+    private static class Node {
+        private final Node[] children = new Node[10];
+        private final Set<Person> persons = new HashSet<>(1);
+
+        /**
+         * Returns true if this node has no persons and no children.
+         */
+        private boolean isEmpty() {
+            if (!persons.isEmpty()) {
+                return false;
+            }
+            for (Node child : children) {
+                if (child != null) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
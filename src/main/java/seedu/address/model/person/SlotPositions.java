@@ -0,0 +1,107 @@
+package seedu.address.model.person;
+
+import java.util.Arrays;
+
+/**
+ * Numbers the elements of a list that only grows at its end, and finds an element's position in the list from its
+ * number in O(log n), even after elements before it have been removed.
+ *
+ * Each appended element takes the next slot. Removing an element frees its slot without renumbering the other
+ * elements, and a Fenwick tree over the slots counts the occupied slots before any slot, which is the position of the
+ * element in that slot. Freed slots are only reclaimed by {@link #reset(int)}, which the owner of the numbering should
+ * call, after renumbering its elements by position, once {@link #hasManyFreedSlots()} returns true.
+ */
+class SlotPositions {
+
+    private static final int MIN_CAPACITY = 16;
+
+    /** Fenwick tree over the slots, 1-based: {@code tree[i]} counts the occupied slots in the range ending at i. */
+    private int[] tree;
+    private boolean[] isOccupied;
+    private int slotCount;
+    private int occupiedCount;
+
+    /**
+     * Creates a numbering of an empty list.
+     */
+    SlotPositions() {
+        reset(0);
+    }
+
+    /**
+     * Forgets all slots, and numbers a list of {@code size} elements by position.
+     */
+    void reset(int size) {
+        int capacity = Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.max(size, 1)) << 1);
+        isOccupied = new boolean[capacity];
+        Arrays.fill(isOccupied, 0, size, true);
+        slotCount = size;
+        occupiedCount = size;
+        rebuildTree();
+    }
+
+    /**
+     * Numbers an element appended to the list, and returns its slot.
+     */
+    int append() {
+        if (slotCount == isOccupied.length) {
+            isOccupied = Arrays.copyOf(isOccupied, isOccupied.length * 2);
+            rebuildTree();
+        }
+        int slot = slotCount++;
+        isOccupied[slot] = true;
+        occupiedCount++;
+        update(slot, 1);
+        return slot;
+    }
+
+    /**
+     * Frees the slot of an element removed from the list.
+     */
+    void free(int slot) {
+        assert isOccupied[slot];
+        isOccupied[slot] = false;
+        occupiedCount--;
+        update(slot, -1);
+    }
+
+    /**
+     * Returns the position in the list of the element in {@code slot}.
+     */
+    int positionOf(int slot) {
+        int position = 0;
+        for (int i = slot; i > 0; i -= i & -i) {
+            position += tree[i];
+        }
+        return position;
+    }
+
+    /**
+     * Returns true if more slots have been freed than are occupied, so that the slots should be reset.
+     */
+    boolean hasManyFreedSlots() {
+        return slotCount > MIN_CAPACITY && slotCount - occupiedCount > occupiedCount;
+    }
+
+    private void update(int slot, int delta) {
+        for (int i = slot + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Rebuilds the Fenwick tree from {@code isOccupied} in linear time.
+     */
+    private void rebuildTree() {
+        tree = new int[isOccupied.length + 1];
+        for (int i = 1; i < tree.length; i++) {
+            if (isOccupied[i - 1]) {
+                tree[i]++;
+            }
+            int parent = i + (i & -i);
+            if (parent < tree.length) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+}
@@ -3,8 +3,13 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,22 +23,54 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Each person's slot in a {@code SlotPositions} numbering of the list is also kept in a hash-based index keyed by name,
+ * so that identity checks take O(1) time, and lookups of the person to replace or remove take O(log n) time instead of
+ * a scan of the whole list, even after persons before it have been removed. Every mutation of the backing list must
+ * keep this index in sync. Removing a person still shifts the persons after it in the backing list.
+ *
+ * Many changes can be made as a single change to the list with {@link #batchUpdate(Runnable)}, which undoes them all
+ * if one of them fails.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Person> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private final BatchablePersonList internalList;
+    private final ObservableList<Person> internalUnmodifiableList;
+    /** The slot of each person in {@code slotPositions}, keyed by name. */
+    private final Map<Name, Integer> slots = new HashMap<>();
+    private final SlotPositions slotPositions = new SlotPositions();
+    /** Undoes the changes made to the backing list in the running batches, latest last, or null if none is running. */
+    private List<Runnable> undoLog;
+
+    /**
+     * Creates an empty list that keeps its persons as {@code Person} objects.
+     */
+    public UniquePersonList() {
+        this(BatchablePersonList.create());
+    }
+
+    private UniquePersonList(BatchablePersonList internalList) {
+        this.internalList = internalList;
+        internalUnmodifiableList = FXCollections.unmodifiableObservableList(internalList);
+    }
+
+    /**
+     * Creates an empty list that keeps its persons in a {@code CompactPersonList}, which uses less memory but creates
+     * a new {@code Person} object each time a person is read from the list.
+     */
+    public static UniquePersonList createCompact() {
+        return new UniquePersonList(new CompactPersonList());
+    }
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return slots.containsKey(toCheck.getName());
     }
 
     /**
@@ -46,6 +83,8 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        slots.put(toAdd.getName(), slotPositions.append());
+        recordUndo(() -> internalList.remove(internalList.size() - 1));
     }
 
     /**
@@ -56,7 +95,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -66,6 +105,8 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.set(index, editedPerson);
+        slots.put(editedPerson.getName(), slots.remove(target.getName()));
+        recordUndo(() -> internalList.set(index, target));
     }
 
     /**
@@ -74,14 +115,30 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        internalList.remove(index);
+        slotPositions.free(slots.remove(toRemove.getName()));
+        recordUndo(() -> internalList.add(index, toRemove));
+        if (slotPositions.hasManyFreedSlots()) {
+            // Renumbering by position takes O(n log n) time, which is amortised over the n removals since the last one
+            slots.replaceAll((name, slot) -> slotPositions.positionOf(slot));
+            slotPositions.reset(slots.size());
+        }
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        recordUndoOfSetAll();
         internalList.setAll(replacement.internalList);
+        slots.clear();
+        replacement.slots.forEach((name, slot) -> slots.put(name, replacement.slotPositions.positionOf(slot)));
+        slotPositions.reset(slots.size());
     }
 
     /**
@@ -90,11 +147,46 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        // Numbering the new persons also finds any duplicates, so that they are only grouped by name if there are any
+        slots.clear();
+        for (int i = 0; i < persons.size(); i++) {
+            if (slots.put(persons.get(i).getName(), i) != null) {
+                renumberSlots();
+                throw new DuplicatePersonException(findDuplicatePersons(persons));
+            }
         }
 
+        recordUndoOfSetAll();
         internalList.setAll(persons);
+        slotPositions.reset(persons.size());
+    }
+
+    /**
+     * Runs {@code changes}, which changes this list through its other methods, notifying the listeners of the list once
+     * of all the changes made, instead of once per change.
+     * If {@code changes} throws, every change it made is undone before the exception is rethrown, so the single change
+     * the listeners are notified of leaves the list as it was. Batches may be nested, and a failing inner batch only
+     * undoes its own changes.
+     */
+    public void batchUpdate(Runnable changes) {
+        requireNonNull(changes);
+        boolean isOutermostBatch = undoLog == null;
+        if (isOutermostBatch) {
+            undoLog = new ArrayList<>();
+        }
+        int undoCount = undoLog.size();
+        internalList.beginBatch();
+        try {
+            changes.run();
+        } catch (RuntimeException | Error e) {
+            undoChangesAfter(undoCount);
+            throw e;
+        } finally {
+            if (isOutermostBatch) {
+                undoLog = null;
+            }
+            internalList.endBatch();
+        }
     }
 
     /**
@@ -104,6 +196,14 @@ public class UniquePersonList implements Iterable<Person> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns a copy of the backing list as an unmodifiable {@code ObservableList}, which later changes to this list
+     * do not affect.
+     */
+    public ObservableList<Person> copyAsUnmodifiableObservableList() {
+        return FXCollections.unmodifiableObservableList(internalList.copy());
+    }
+
     @Override
     public Iterator<Person> iterator() {
         return internalList.iterator();
@@ -135,16 +235,71 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Records {@code undo}, which undoes the change just made to the backing list, if a batch is running.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
-            }
+    private void recordUndo(Runnable undo) {
+        if (undoLog != null) {
+            undoLog.add(undo);
+        }
+    }
+
+    /**
+     * Records how to undo replacing the contents of the backing list, if a batch is running.
+     */
+    private void recordUndoOfSetAll() {
+        if (undoLog != null) {
+            BatchablePersonList oldPersons = internalList.copy();
+            undoLog.add(() -> internalList.setAll(oldPersons));
+        }
+    }
+
+    /**
+     * Undoes the changes recorded after the first {@code undoCount} ones, latest first, and renumbers the persons by
+     * position, as undoing a removal puts a person back in the middle of the list.
+     */
+    private void undoChangesAfter(int undoCount) {
+        while (undoLog.size() > undoCount) {
+            undoLog.remove(undoLog.size() - 1).run();
+        }
+        renumberSlots();
+    }
+
+    /**
+     * Gives each person the slot of its position in the list.
+     */
+    private void renumberSlots() {
+        slots.clear();
+        for (int i = 0; i < internalList.size(); i++) {
+            slots.put(internalList.get(i).getName(), i);
+        }
+        slotPositions.reset(internalList.size());
+    }
+
+    /**
+     * Returns the position of the person in the list that is equal to {@code person}, or -1 if there is none.
+     */
+    private int indexOf(Person person) {
+        Integer slot = slots.get(person.getName());
+        if (slot == null) {
+            return -1;
+        }
+        int index = slotPositions.positionOf(slot);
+        return internalList.get(index).equals(person) ? index : -1;
+    }
+
+    /**
+     * Returns every group of persons in {@code persons} that share the same identity, in a single pass over the list.
+     * Each group has at least two persons, listed in their original order, and the groups are ordered by the first
+     * appearance of their identity. An empty list is returned if {@code persons} contains only unique persons.
+     */
+    public static List<List<Person>> findDuplicatePersons(List<Person> persons) {
+        requireAllNonNull(persons);
+        Map<Name, List<Person>> personsByName = new LinkedHashMap<>();
+        for (Person person : persons) {
+            personsByName.computeIfAbsent(person.getName(), unused -> new ArrayList<>(1)).add(person);
         }
-        return true;
+        return personsByName.values().stream()
+                .filter(group -> group.size() > 1)
+                .collect(Collectors.toList());
     }
 }
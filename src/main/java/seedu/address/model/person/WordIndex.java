@@ -0,0 +1,97 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * An inverted index from the words in one text field of persons to the persons whose field contains that word.
+ * A word is a maximal run of letters and digits, and words are matched ignoring case.
+ *
+ * The index does not enforce uniqueness; callers are responsible for adding and removing each person exactly once.
+ */
+public class WordIndex {
+
+    private final Function<Person, String> field;
+    private final Map<String, Set<Person>> personsByWord = new HashMap<>();
+
+    /**
+     * Creates an empty {@code WordIndex} over the text returned by {@code field}.
+     */
+    public WordIndex(Function<Person, String> field) {
+        requireNonNull(field);
+        this.field = field;
+    }
+
+    /**
+     * Adds {@code person} to the posting set of every word in its field.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (String word : wordsOf(field.apply(person))) {
+            personsByWord.computeIfAbsent(word, unused -> new HashSet<>()).add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the posting set of every word in its field.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (String word : wordsOf(field.apply(person))) {
+            Set<Person> postings = personsByWord.get(word);
+            if (postings == null) {
+                continue;
+            }
+            postings.remove(person);
+            if (postings.isEmpty()) {
+                personsByWord.remove(word);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with {@code persons}.
+     */
+    public void setPersons(Collection<Person> persons) {
+        requireNonNull(persons);
+        personsByWord.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons whose field contains {@code word}, ignoring case.
+     * The set is empty if {@code word} is not a single word.
+     */
+    public Set<Person> getPersons(String word) {
+        requireNonNull(word);
+        Set<Person> postings = personsByWord.get(word.trim().toLowerCase(Locale.ROOT));
+        return postings == null ? Collections.emptySet() : Collections.unmodifiableSet(postings);
+    }
+
+    /**
+     * Returns the distinct, lower-cased words in {@code text}.
+     */
+    public static Set<String> wordsOf(String text) {
+        requireNonNull(text);
+        Set<String> words = new HashSet<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isWordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (isWordChar && start == -1) {
+                start = i;
+            } else if (!isWordChar && start != -1) {
+                words.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return words;
+    }
+}
@@ -1,11 +1,35 @@
 package seedu.address.model.person.exceptions;
 
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.model.person.Person;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicatePersonException extends RuntimeException {
+
+    private final List<List<Person>> duplicatePersons;
+
     public DuplicatePersonException() {
+        this(Collections.emptyList());
+    }
+
+    /**
+     * Creates a {@code DuplicatePersonException} that reports the groups of persons sharing the same identity.
+     */
+    public DuplicatePersonException(List<List<Person>> duplicatePersons) {
         super("Operation would result in duplicate persons");
+        this.duplicatePersons = Collections.unmodifiableList(duplicatePersons);
+    }
+
+    /**
+     * Returns the groups of persons that share the same identity, if known.
+     * Each group contains at least two persons. The list is empty if the duplicates were not collected.
+     */
+    public List<List<Person>> getDuplicatePersons() {
+        return duplicatePersons;
     }
 }
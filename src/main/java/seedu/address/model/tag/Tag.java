@@ -3,6 +3,14 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -11,6 +19,16 @@ public class Tag {
 
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    /*
+     * Canonical tags created by {@link #of(String)}, keyed by their name. The tags are only weakly held, so a tag
+     * that is no longer in use can be garbage collected, and its entry is removed once its reference is enqueued in
+     * {@code collectedTags}. The map is only read and updated with lock-free operations, so tags can be created from
+     * many threads at once.
+     */
+    private static final ConcurrentMap<String, CanonicalTagReference> canonicalTags = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<Tag> collectedTags = new ReferenceQueue<>();
 
     public final String tagName;
 
@@ -25,11 +43,75 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the canonical {@code Tag} with the given name, creating it if there is none.
+     * Calls with equal names return the same instance for as long as it is in use, so the name of a tag is only
+     * validated the first time it is seen.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        Optional<Tag> tag = ofValidName(tagName);
+        checkArgument(tag.isPresent(), MESSAGE_CONSTRAINTS);
+        return tag.get();
+    }
+
+    /**
+     * Returns the canonical {@code Tag} with the given name, creating it if there is none, or an empty
+     * {@code Optional} if the name is not a valid tag name.
+     * As with {@link #of(String)}, the name of a tag is only validated the first time it is seen.
+     */
+    public static Optional<Tag> ofValidName(String tagName) {
+        requireNonNull(tagName);
+        Tag tag = getCanonicalTag(tagName);
+        if (tag != null) {
+            return Optional.of(tag);
+        }
+        if (!isValidTagName(tagName)) {
+            return Optional.empty();
+        }
+
+        removeCollectedTags();
+        Tag newTag = new Tag(tagName);
+        CanonicalTagReference newReference = new CanonicalTagReference(newTag, collectedTags);
+        while (true) {
+            CanonicalTagReference reference = canonicalTags.putIfAbsent(newTag.tagName, newReference);
+            if (reference == null) {
+                return Optional.of(newTag);
+            }
+            // Another thread created the tag first, but it may have been collected since
+            Tag existingTag = reference.get();
+            if (existingTag != null) {
+                return Optional.of(existingTag);
+            }
+            if (canonicalTags.replace(newTag.tagName, reference, newReference)) {
+                return Optional.of(newTag);
+            }
+        }
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
+    }
+
+    private static Tag getCanonicalTag(String tagName) {
+        CanonicalTagReference reference = canonicalTags.get(tagName);
+        return reference == null ? null : reference.get();
+    }
+
+    /**
+     * Removes the entries of the canonical tags that have been garbage collected.
+     */
+    private static void removeCollectedTags() {
+        Reference<? extends Tag> reference;
+        while ((reference = collectedTags.poll()) != null) {
+            CanonicalTagReference collectedReference = (CanonicalTagReference) reference;
+            canonicalTags.remove(collectedReference.tagName, collectedReference);
+        }
     }
 
     @Override
@@ -59,4 +141,17 @@ public class Tag {
         return '[' + tagName + ']';
     }
 
+    /**
+     * A weak reference to a canonical tag, which remembers the tag's name so that its entry can be removed after the
+     * tag is collected.
+     */
+    private static class CanonicalTagReference extends WeakReference<Tag> {
+        private final String tagName;
+
+        CanonicalTagReference(Tag tag, ReferenceQueue<Tag> queue) {
+            super(tag, queue);
+            tagName = tag.tagName;
+        }
+    }
+
 }
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -42,4 +43,19 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Waits until every address book given to the save methods so far has been written to the storage.
+     * @throws IOException if there was any problem writing to the file that has not been thrown by a save method.
+     */
+    void flushAddressBook() throws IOException;
+
+    /**
+     * Sets the listener that is given each failure to write an address book that happens after the save method for
+     * it has returned, or removes the listener if {@code failureListener} is null.
+     * The listener may be called on any thread. Storages that write the address book before the save method returns
+     * throw their failures from it instead, and never call the listener.
+     */
+    default void setSaveFailureListener(Consumer<IOException> failureListener) {
+    }
+
 }
@@ -0,0 +1,211 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * An {@code AddressBookStorage} that writes address books on a background thread, so that saving does not hold up the
+ * thread that asks for the save.
+ *
+ * Saving takes a snapshot of the address book and returns without waiting for it to be written. If more snapshots for
+ * the same file are saved while one is being written, only the latest of them is written afterwards. A failure to write
+ * a snapshot is given to the save failure listener as soon as it happens. If there is no listener, it is thrown by the
+ * next call to a save method or to {@link #flushAddressBook()} instead.
+ */
+public class BackgroundAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundAddressBookStorage.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final Executor writer;
+
+    /** The latest snapshot not written yet for each file, in the order the files were first saved to. */
+    private final Map<Path, ReadOnlyAddressBook> pendingSnapshots = new LinkedHashMap<>();
+    private boolean isWriting;
+    private IOException unreportedFailure;
+    private Consumer<IOException> failureListener;
+
+    /**
+     * Creates a {@code BackgroundAddressBookStorage} that writes address books using {@code addressBookStorage}.
+     */
+    public BackgroundAddressBookStorage(AddressBookStorage addressBookStorage) {
+        requireNonNull(addressBookStorage);
+        this.addressBookStorage = addressBookStorage;
+        writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "AddressBook writer");
+            // Pending snapshots are flushed on exit, so the writer must not keep the application running
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return addressBookStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Waits for the pending snapshots to be written first, so the data read is never older than the data last saved.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        try {
+            awaitPendingSnapshots();
+        } catch (InterruptedIOException e) {
+            throw new DataLoadingException(e);
+        }
+        return addressBookStorage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The snapshot is taken before this method returns, so {@code addressBook} can be changed straight afterwards.
+     *
+     * @throws IOException if writing an earlier snapshot failed. The given address book is still saved.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        ReadOnlyAddressBook snapshot = new Snapshot(addressBook.copyPersonList());
+        synchronized (this) {
+            pendingSnapshots.put(filePath, snapshot);
+            if (!isWriting) {
+                isWriting = true;
+                writer.execute(this::writePendingSnapshots);
+            }
+        }
+        reportFailure();
+    }
+
+    /**
+     * Waits until every snapshot saved so far has been written.
+     *
+     * @throws IOException if writing a snapshot failed and the failure has not been thrown before.
+     */
+    @Override
+    public void flushAddressBook() throws IOException {
+        awaitPendingSnapshots();
+        reportFailure();
+    }
+
+    /**
+     * {@inheritDoc}
+     * The listener is called on the writer thread.
+     */
+    @Override
+    public synchronized void setSaveFailureListener(Consumer<IOException> failureListener) {
+        this.failureListener = failureListener;
+    }
+
+    private synchronized void awaitPendingSnapshots() throws InterruptedIOException {
+        while (isWriting) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the address book to be saved");
+            }
+        }
+    }
+
+    private synchronized void reportFailure() throws IOException {
+        if (unreportedFailure != null) {
+            IOException failure = unreportedFailure;
+            unreportedFailure = null;
+            throw failure;
+        }
+    }
+
+    /**
+     * Writes the pending snapshots one at a time until there are none left. Runs on the writer thread.
+     */
+    private void writePendingSnapshots() {
+        while (true) {
+            Map.Entry<Path, ReadOnlyAddressBook> pendingSnapshot;
+            synchronized (this) {
+                Iterator<Map.Entry<Path, ReadOnlyAddressBook>> iterator = pendingSnapshots.entrySet().iterator();
+                if (!iterator.hasNext()) {
+                    isWriting = false;
+                    notifyAll();
+                    return;
+                }
+                pendingSnapshot = iterator.next();
+                iterator.remove();
+            }
+
+            try {
+                addressBookStorage.saveAddressBook(pendingSnapshot.getValue(), pendingSnapshot.getKey());
+            } catch (IOException | RuntimeException e) {
+                logger.warning("Failed to save the address book to " + pendingSnapshot.getKey() + ": " + e);
+                reportFailureLater(e instanceof IOException ? (IOException) e : new IOException(e));
+            }
+        }
+    }
+
+    /**
+     * Gives {@code failure} to the save failure listener, or keeps it to be thrown by the next save if there is none.
+     * Runs on the writer thread.
+     */
+    private void reportFailureLater(IOException failure) {
+        Consumer<IOException> listener;
+        synchronized (this) {
+            if (failureListener == null) {
+                unreportedFailure = failure;
+                return;
+            }
+            listener = failureListener;
+        }
+        // Called outside the lock, so that the listener can save again straight away
+        listener.accept(failure);
+    }
+
+    /**
+     * An address book that holds a copy of the persons of another address book, taken when it was created.
+     */
+    private static class Snapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+
+        /**
+         * Creates a snapshot holding {@code persons}, an unmodifiable copy that nothing else changes.
+         */
+        Snapshot(ObservableList<Person> persons) {
+            this.persons = persons;
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+    }
+}
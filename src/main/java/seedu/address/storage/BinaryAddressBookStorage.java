@@ -0,0 +1,359 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a binary snapshot file on the hard disk.
+ *
+ * A snapshot starts with the {@link #MAGIC_NUMBER} and the {@link #FORMAT_VERSION}, followed by a string table of the
+ * tag names and email domains in use, and then the persons. Each string is written as its length in bytes followed by
+ * its UTF-8 bytes. Each person is written as its name, phone, email local part, the string table position of its email
+ * domain, its address, its number of tags and the string table positions of its tags. The snapshot ends with the CRC32
+ * checksum of everything before it. All numbers are 4-byte big-endian integers. Snapshots are read through a
+ * {@link MappedFileReader}, so large snapshots are memory-mapped rather than copied onto the heap.
+ *
+ * Snapshots are only ever written from valid persons, so the persons of a snapshot whose checksum matches are not
+ * validated again when it is read. Snapshots of version 1, which have no checksum, are still read, and validated.
+ *
+ * A JSON data file can be read too, so an address book saved as JSON is converted to a binary snapshot the next time
+ * it is saved.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    /** The first 4 bytes of every binary snapshot, "AB3B" in ASCII. */
+    public static final int MAGIC_NUMBER = 0x41423342;
+    public static final int FORMAT_VERSION = 2;
+    /** The last version of the format without a checksum. */
+    public static final int UNCHECKED_FORMAT_VERSION = 1;
+
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary address book version %d.";
+    public static final String MESSAGE_CORRUPTED_SNAPSHOT = "Binary address book is corrupted.";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} exists and is a binary snapshot, as opposed to a JSON file.
+     */
+    public static boolean isBinarySnapshot(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath) || Files.size(filePath) < Integer.BYTES) {
+            return false;
+        }
+        try (DataInputStream input = new DataInputStream(Files.newInputStream(filePath))) {
+            return input.readInt() == MAGIC_NUMBER;
+        }
+    }
+
+    /**
+     * Converts the binary snapshot at {@code binaryFilePath} to JSON and saves it to {@code jsonFilePath}, which may be
+     * the same file.
+     *
+     * @throws DataLoadingException if the snapshot could not be read.
+     * @throws IOException if there was any problem writing the JSON file.
+     */
+    public static void exportToJson(Path binaryFilePath, Path jsonFilePath) throws DataLoadingException, IOException {
+        Optional<ReadOnlyAddressBook> addressBook = new BinaryAddressBookStorage(binaryFilePath).readAddressBook();
+        if (addressBook.isPresent()) {
+            new JsonAddressBookStorage(jsonFilePath).saveAddressBook(addressBook.get());
+        }
+    }
+
+    /**
+     * Reads the JSON file at {@code jsonFilePath} and saves it as a binary snapshot to {@code binaryFilePath}, which
+     * may be the same file.
+     *
+     * @throws DataLoadingException if the JSON file could not be read.
+     * @throws IOException if there was any problem writing the snapshot.
+     */
+    public static void importFromJson(Path jsonFilePath, Path binaryFilePath) throws DataLoadingException, IOException {
+        Optional<ReadOnlyAddressBook> addressBook = new JsonAddressBookStorage(jsonFilePath).readAddressBook();
+        if (addressBook.isPresent()) {
+            new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(addressBook.get());
+        }
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        try {
+            if (!isBinarySnapshot(filePath)) {
+                // A missing file, or a JSON file to be converted on the next save
+                return new JsonAddressBookStorage(filePath).readAddressBook();
+            }
+            logger.info("Binary file " + filePath + " found.");
+            boolean hasValidChecksum = hasValidChecksum(filePath);
+            try (MappedFileReader reader = new MappedFileReader(filePath)) {
+                return Optional.of(readSnapshot(new SnapshotReader(reader), hasValidChecksum));
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The file is only replaced once the whole snapshot has been written, and the file it replaces is kept as a backup.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeToFileKeepingBackup(filePath, outputStream -> {
+            CheckedOutputStream checkedOutputStream = new CheckedOutputStream(outputStream, new CRC32());
+            DataOutputStream output = new DataOutputStream(new BufferedOutputStream(checkedOutputStream));
+            writeSnapshot(addressBook.getPersonList(), output);
+            output.flush();
+            // The checksum itself is written past the checked stream, so that it is not part of what it checks
+            new DataOutputStream(outputStream).writeInt((int) checkedOutputStream.getChecksum().getValue());
+        });
+    }
+
+    @Override
+    public void flushAddressBook() {
+        // Address books are written before the save methods return
+    }
+
+    private static void writeSnapshot(List<Person> persons, DataOutputStream output) throws IOException {
+        List<String> strings = new ArrayList<>();
+        Map<String, Integer> stringPositions = new HashMap<>();
+        for (Person person : persons) {
+            addToStringTable(domainOf(person.getEmail()), strings, stringPositions);
+            for (Tag tag : person.getTags()) {
+                addToStringTable(tag.tagName, strings, stringPositions);
+            }
+        }
+
+        output.writeInt(MAGIC_NUMBER);
+        output.writeInt(FORMAT_VERSION);
+        output.writeInt(strings.size());
+        for (String string : strings) {
+            writeString(string, output);
+        }
+
+        output.writeInt(persons.size());
+        for (Person person : persons) {
+            String email = person.getEmail().value;
+            writeString(person.getName().fullName, output);
+            writeString(person.getPhone().value, output);
+            writeString(email.substring(0, email.lastIndexOf('@')), output);
+            output.writeInt(stringPositions.get(domainOf(person.getEmail())));
+            writeString(person.getAddress().value, output);
+            output.writeInt(person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                output.writeInt(stringPositions.get(tag.tagName));
+            }
+        }
+    }
+
+    private static void addToStringTable(String string, List<String> strings, Map<String, Integer> stringPositions) {
+        if (!stringPositions.containsKey(string)) {
+            stringPositions.put(string, strings.size());
+            strings.add(string);
+        }
+    }
+
+    private static String domainOf(Email email) {
+        return email.value.substring(email.value.lastIndexOf('@') + 1);
+    }
+
+    private static void writeString(String string, DataOutputStream output) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    /**
+     * Returns true if the snapshot at {@code filePath} ends with the checksum of everything before it.
+     * Snapshots whose version has no checksum never have a valid one.
+     */
+    private static boolean hasValidChecksum(Path filePath) throws IOException {
+        try (MappedFileReader reader = new MappedFileReader(filePath)) {
+            long checkedSize = reader.size() - Integer.BYTES;
+            if (checkedSize < 2 * Integer.BYTES) {
+                return false;
+            }
+            CRC32 checksum = new CRC32();
+            byte[] buffer = new byte[MappedFileReader.BUFFERED_WINDOW_SIZE];
+            while (reader.position() < checkedSize) {
+                int length = (int) Math.min(buffer.length, checkedSize - reader.position());
+                int bytesRead = reader.read(buffer, 0, length);
+                checksum.update(buffer, 0, bytesRead);
+            }
+            return reader.readInt() == (int) checksum.getValue();
+        }
+    }
+
+    /**
+     * Reads the snapshot from {@code reader}. The persons in it are only validated if {@code hasValidChecksum} is
+     * false, as a snapshot that has not changed since it was written can only hold valid persons.
+     */
+    private static AddressBook readSnapshot(SnapshotReader reader, boolean hasValidChecksum)
+            throws IOException, IllegalValueException {
+        if (reader.input.readInt() != MAGIC_NUMBER) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_SNAPSHOT);
+        }
+        int version = reader.input.readInt();
+        if (version != FORMAT_VERSION && version != UNCHECKED_FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        if (version == FORMAT_VERSION && !hasValidChecksum) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_SNAPSHOT);
+        }
+        boolean isKnownValid = version == FORMAT_VERSION;
+
+        String[] strings = new String[reader.readCount()];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = reader.readString();
+        }
+
+        int personCount = reader.readCount();
+        List<Person> persons = new ArrayList<>(personCount);
+        Tag[] tagsByPosition = new Tag[strings.length];
+        Set<Tag> tags = new HashSet<>();
+        try {
+            for (int i = 0; i < personCount; i++) {
+                persons.add(readPerson(reader, strings, tagsByPosition, tags, isKnownValid));
+            }
+        } catch (IllegalArgumentException e) {
+            // Thrown by the constructors of the person's fields for invalid values
+            throw new IllegalValueException(e.getMessage());
+        }
+        long checksumSize = isKnownValid ? Integer.BYTES : 0;
+        if (reader.input.size() - reader.input.position() != checksumSize) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_SNAPSHOT);
+        }
+
+        return JsonSerializableAddressBook.toAddressBook(persons);
+    }
+
+    /**
+     * Reads the next person, using {@code tags} as scratch space for its tags.
+     * Its fields are only validated if {@code isKnownValid} is false.
+     */
+    private static Person readPerson(SnapshotReader reader, String[] strings, Tag[] tagsByPosition, Set<Tag> tags,
+            boolean isKnownValid) throws IOException, IllegalValueException {
+        String name = reader.readString();
+        String phone = reader.readString();
+        String email = reader.readString() + '@' + strings[reader.readPosition(strings.length)];
+        String address = reader.readString();
+
+        // The person copies its tags, so the same set can be reused for every person
+        tags.clear();
+        int tagCount = reader.readCount();
+        for (int i = 0; i < tagCount; i++) {
+            int position = reader.readPosition(strings.length);
+            if (tagsByPosition[position] == null) {
+                tagsByPosition[position] = Tag.of(strings[position]);
+            }
+            tags.add(tagsByPosition[position]);
+        }
+        if (isKnownValid) {
+            return Person.ofKnownValidValues(name, phone, email, address, tags);
+        }
+        return new Person(new Name(name), new Phone(phone), new Email(email), new Address(address), tags);
+    }
+
+    /**
+     * Reads the values in a snapshot, checking that they fit in the snapshot before allocating space for them.
+     */
+    private static class SnapshotReader {
+        private final MappedFileReader input;
+
+        SnapshotReader(MappedFileReader input) {
+            this.input = input;
+        }
+
+        /**
+         * Reads the number of values that follow, each of which takes at least 4 bytes.
+         */
+        int readCount() throws IOException, IllegalValueException {
+            int count = input.readInt();
+            if (count < 0 || (long) count * Integer.BYTES > input.size()) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_SNAPSHOT);
+            }
+            return count;
+        }
+
+        int readPosition(int tableSize) throws IOException, IllegalValueException {
+            int position = input.readInt();
+            if (position < 0 || position >= tableSize) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_SNAPSHOT);
+            }
+            return position;
+        }
+
+        String readString() throws IOException, IllegalValueException {
+            int length = input.readInt();
+            if (length < 0 || length > input.size()) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_SNAPSHOT);
+            }
+            return input.readString(length);
+        }
+    }
+}
@@ -0,0 +1,323 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot file on the hard disk, together with a journal of the
+ * changes made since the snapshot was written.
+ *
+ * Saving an address book appends only the changes made to it since it was last saved to the journal, one JSON record
+ * per line, instead of rewriting the whole snapshot. Changes are recorded by listening to the list of persons of the
+ * address book that was last saved. Once the journal grows past a threshold, or the changes cannot be recorded, the
+ * next save writes a new snapshot and starts a new journal instead. Reading replays the journal onto the snapshot.
+ *
+ * The journal starts with the checksum of the snapshot it applies to, so a journal left behind by a crash after a new
+ * snapshot was written is recognised as stale and ignored.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_EXTENSION = ".journal";
+
+    static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final JsonAddressBookStorage snapshotStorage;
+    private final int compactionThreshold;
+    private final ListChangeListener<Person> changeRecorder = this::recordChanges;
+
+    /** Journal records of the changes to {@code trackedAddressBook} that have not been saved yet. */
+    private final List<String> pendingRecords = new ArrayList<>();
+    private ReadOnlyAddressBook trackedAddressBook;
+    private ObservableList<Person> trackedPersons;
+    /** The address book last read from the snapshot file, until an address book is tracked. */
+    private ReadOnlyAddressBook lastReadAddressBook;
+    private int journalSize;
+    private boolean isSnapshotRequired;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a storage that writes a new snapshot once its journal has more than {@code compactionThreshold} records.
+     */
+    JournaledAddressBookStorage(Path filePath, int compactionThreshold) {
+        snapshotStorage = new JsonAddressBookStorage(filePath);
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    /**
+     * Returns the path of the journal kept for the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!snapshot.isPresent() || !Files.exists(journalFilePath)) {
+            return snapshot;
+        }
+
+        List<Person> persons = new ArrayList<>(snapshot.get().getPersonList());
+        AddressBook addressBook = new AddressBook();
+        int replayedRecords;
+        try {
+            replayedRecords = replayJournal(journalFilePath, checksumOf(filePath), persons);
+            addressBook.setPersons(persons);
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException | DuplicatePersonException e) {
+            logger.info("Illegal values found in " + journalFilePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+
+        if (filePath.equals(getAddressBookFilePath())) {
+            lastReadAddressBook = addressBook;
+            journalSize = Math.max(replayedRecords, 0);
+            isSnapshotRequired = replayedRecords < 0;
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to a location other than {@link #getAddressBookFilePath()} always writes a new snapshot.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getAddressBookFilePath())) {
+            writeSnapshot(addressBook, filePath);
+            return;
+        }
+
+        if (addressBook != trackedAddressBook) {
+            if (!isSnapshotRequired && addressBook.equals(lastReadAddressBook)) {
+                // The data on disk is already up to date
+                track(addressBook);
+            } else {
+                compact(addressBook);
+            }
+            return;
+        }
+        if (isSnapshotRequired || journalSize + pendingRecords.size() > compactionThreshold) {
+            compact(addressBook);
+            return;
+        }
+        if (pendingRecords.isEmpty()) {
+            return;
+        }
+
+        try {
+            Files.write(getJournalFilePath(filePath), pendingRecords, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException ioe) {
+            // Some of the records may have been written, so the journal can no longer be appended to
+            requireSnapshot();
+            throw ioe;
+        }
+        journalSize += pendingRecords.size();
+        pendingRecords.clear();
+    }
+
+    @Override
+    public void flushAddressBook() {
+        // Address books are written before the save methods return
+    }
+
+    /**
+     * Writes {@code addressBook} as the new snapshot and starts a new, empty journal for it.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        logger.fine("Writing a new snapshot of the address book to " + getAddressBookFilePath());
+        writeSnapshot(addressBook, getAddressBookFilePath());
+        track(addressBook);
+        journalSize = 0;
+        isSnapshotRequired = false;
+    }
+
+    private void writeSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+        String header = JsonUtil.toSingleLineJsonString(JsonAdaptedJournalRecord.snapshot(checksumOf(filePath)));
+        Files.write(getJournalFilePath(filePath), Collections.singletonList(header), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Starts recording the changes made to {@code addressBook}, instead of those made to the address book tracked
+     * before.
+     */
+    private void track(ReadOnlyAddressBook addressBook) {
+        if (trackedPersons != null) {
+            trackedPersons.removeListener(changeRecorder);
+        }
+        trackedAddressBook = addressBook;
+        trackedPersons = addressBook.getPersonList();
+        trackedPersons.addListener(changeRecorder);
+        lastReadAddressBook = null;
+        pendingRecords.clear();
+    }
+
+    private void recordChanges(ListChangeListener.Change<? extends Person> change) {
+        while (change.next() && !isSnapshotRequired) {
+            if (change.getList().isEmpty()) {
+                pendingRecords.clear();
+                record(JsonAdaptedJournalRecord.clear());
+                return;
+            }
+            if (change.wasPermutated() || change.wasUpdated()) {
+                requireSnapshot();
+                return;
+            }
+
+            int from = change.getFrom();
+            List<? extends Person> addedPersons = change.getAddedSubList();
+            if (change.wasReplaced() && change.getRemovedSize() == addedPersons.size()) {
+                for (int i = 0; i < addedPersons.size(); i++) {
+                    record(JsonAdaptedJournalRecord.edit(from + i, addedPersons.get(i)));
+                }
+                continue;
+            }
+            for (int i = 0; i < change.getRemovedSize(); i++) {
+                record(JsonAdaptedJournalRecord.delete(from));
+            }
+            for (int i = 0; i < addedPersons.size(); i++) {
+                record(JsonAdaptedJournalRecord.add(from + i, addedPersons.get(i)));
+            }
+        }
+    }
+
+    private void record(JsonAdaptedJournalRecord record) {
+        if (pendingRecords.size() >= compactionThreshold) {
+            // A new snapshot will be written on the next save anyway
+            requireSnapshot();
+            return;
+        }
+        try {
+            pendingRecords.add(JsonUtil.toSingleLineJsonString(record));
+        } catch (JsonProcessingException e) {
+            logger.warning("Could not record change to the address book, a new snapshot will be written: " + e);
+            requireSnapshot();
+        }
+    }
+
+    private void requireSnapshot() {
+        isSnapshotRequired = true;
+        pendingRecords.clear();
+    }
+
+    /**
+     * Applies the records in the journal at {@code journalFilePath} to {@code persons}, if the journal applies to the
+     * snapshot with the given checksum.
+     *
+     * @return the number of records applied, or -1 if the journal must be rewritten before it can be appended to,
+     *     because it is stale or its last record is incomplete.
+     * @throws IllegalValueException if a record is invalid or does not apply to {@code persons}.
+     */
+    private static int replayJournal(Path journalFilePath, long snapshotChecksum, List<Person> persons)
+            throws IOException, IllegalValueException {
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath, StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            if (header == null || !readRecord(header).map(record -> record.isSnapshotOf(snapshotChecksum))
+                    .orElse(false)) {
+                logger.info("Ignoring journal " + journalFilePath + " that does not apply to the current snapshot");
+                return -1;
+            }
+
+            int replayedRecords = 0;
+            String line = reader.readLine();
+            while (line != null) {
+                String nextLine = reader.readLine();
+                Optional<JsonAdaptedJournalRecord> record = readRecord(line);
+                if (!record.isPresent()) {
+                    if (nextLine == null) {
+                        logger.warning("Ignoring incomplete last record of journal " + journalFilePath);
+                        return -1;
+                    }
+                    throw new IllegalValueException("Invalid journal record: " + line);
+                }
+                record.get().applyTo(persons);
+                replayedRecords++;
+                line = nextLine;
+            }
+            return replayedRecords;
+        }
+    }
+
+    private static Optional<JsonAdaptedJournalRecord> readRecord(String line) {
+        try {
+            return Optional.of(JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static long checksumOf(Path filePath) throws IOException {
+        CRC32 checksum = new CRC32();
+        byte[] buffer = new byte[1 << 16];
+        try (InputStream inputStream = Files.newInputStream(filePath)) {
+            for (int read = inputStream.read(buffer); read != -1; read = inputStream.read(buffer)) {
+                checksum.update(buffer, 0, read);
+            }
+        }
+        return checksum.getValue();
+    }
+
+}
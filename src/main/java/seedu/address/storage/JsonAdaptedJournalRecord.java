@@ -0,0 +1,118 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of one change to the list of persons in an address book, as recorded in the journal of a
+ * {@link JournaledAddressBookStorage}.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String OPERATION_SNAPSHOT = "snapshot";
+    public static final String OPERATION_ADD = "add";
+    public static final String OPERATION_EDIT = "edit";
+    public static final String OPERATION_DELETE = "delete";
+    public static final String OPERATION_CLEAR = "clear";
+
+    public static final String MESSAGE_INVALID_RECORD = "Journal record %s does not apply to the address book.";
+
+    private final String operation;
+    private final Integer index;
+    private final JsonAdaptedPerson person;
+    private final Long checksum;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("operation") String operation, @JsonProperty("index") Integer index,
+            @JsonProperty("person") JsonAdaptedPerson person, @JsonProperty("checksum") Long checksum) {
+        this.operation = operation;
+        this.index = index;
+        this.person = person;
+        this.checksum = checksum;
+    }
+
+    /**
+     * Returns the record that starts a journal for the snapshot with the given {@code checksum}.
+     */
+    public static JsonAdaptedJournalRecord snapshot(long checksum) {
+        return new JsonAdaptedJournalRecord(OPERATION_SNAPSHOT, null, null, checksum);
+    }
+
+    /**
+     * Returns a record of {@code person} being added at {@code index}.
+     */
+    public static JsonAdaptedJournalRecord add(int index, Person person) {
+        return new JsonAdaptedJournalRecord(OPERATION_ADD, index, new JsonAdaptedPerson(person), null);
+    }
+
+    /**
+     * Returns a record of the person at {@code index} being replaced with {@code person}.
+     */
+    public static JsonAdaptedJournalRecord edit(int index, Person person) {
+        return new JsonAdaptedJournalRecord(OPERATION_EDIT, index, new JsonAdaptedPerson(person), null);
+    }
+
+    /**
+     * Returns a record of the person at {@code index} being deleted.
+     */
+    public static JsonAdaptedJournalRecord delete(int index) {
+        return new JsonAdaptedJournalRecord(OPERATION_DELETE, index, null, null);
+    }
+
+    /**
+     * Returns a record of all persons being deleted.
+     */
+    public static JsonAdaptedJournalRecord clear() {
+        return new JsonAdaptedJournalRecord(OPERATION_CLEAR, null, null, null);
+    }
+
+    /**
+     * Returns true if this record starts a journal for the snapshot with the given {@code checksum}.
+     */
+    public boolean isSnapshotOf(long checksum) {
+        return OPERATION_SNAPSHOT.equals(operation) && this.checksum != null && this.checksum == checksum;
+    }
+
+    /**
+     * Applies the change in this record to {@code persons}.
+     *
+     * @throws IllegalValueException if this record is invalid or does not apply to {@code persons}.
+     */
+    public void applyTo(List<Person> persons) throws IllegalValueException {
+        if (OPERATION_CLEAR.equals(operation)) {
+            persons.clear();
+            return;
+        }
+
+        int maxIndex = OPERATION_ADD.equals(operation) ? persons.size() : persons.size() - 1;
+        if (index == null || index < 0 || index > maxIndex) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, operation));
+        }
+
+        if (OPERATION_DELETE.equals(operation)) {
+            persons.remove((int) index);
+            return;
+        }
+        if (person == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, operation));
+        }
+        if (OPERATION_ADD.equals(operation)) {
+            persons.add(index, person.toModelType());
+        } else if (OPERATION_EDIT.equals(operation)) {
+            persons.set(index, person.toModelType());
+        } else {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, operation));
+        }
+    }
+
+}
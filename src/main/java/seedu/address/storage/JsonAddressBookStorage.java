@@ -3,22 +3,29 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    /** The number of persons read from the file before they are converted together. */
+    static final int CONVERSION_BATCH_SIZE = 16 * JsonSerializableAddressBook.CONVERSION_CHUNK_SIZE;
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
@@ -38,6 +45,9 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * The file is streamed through a {@link MappedFileReader}, and persons are converted and validated in parallel in
+     * batches of {@link #CONVERSION_BATCH_SIZE} as they are read, so the whole file is never held in memory. Duplicate
+     * persons are looked for once all persons have been read.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
@@ -45,14 +55,27 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
 
+        List<Person> persons = new ArrayList<>();
+        List<JsonAdaptedPerson> batch = new ArrayList<>();
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            JsonUtil.readJsonArrayElements(new MappedFileReader(filePath).asInputStream(), "persons",
+                    JsonAdaptedPerson.class, jsonAdaptedPerson -> {
+                        batch.add(jsonAdaptedPerson);
+                        if (batch.size() == CONVERSION_BATCH_SIZE) {
+                            persons.addAll(JsonSerializableAddressBook.toModelTypes(batch));
+                            batch.clear();
+                        }
+                    });
+            persons.addAll(JsonSerializableAddressBook.toModelTypes(batch));
+            return Optional.of(JsonSerializableAddressBook.toAddressBook(persons));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -66,6 +89,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Each person is converted and written to the file in turn, so no copy of the whole address book is made.
+     * The file is only replaced once all persons have been written, and the file it replaces is kept as a backup.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +98,15 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        Iterator<JsonAdaptedPerson> jsonAdaptedPersons = addressBook.getPersonList().stream()
+                .map(JsonAdaptedPerson::new)
+                .iterator();
+        JsonUtil.saveJsonArrayElements(jsonAdaptedPersons, "persons", filePath);
+    }
+
+    @Override
+    public void flushAddressBook() {
+        // Address books are written before the save methods return
     }
 
 }
@@ -1,8 +1,9 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.RecursiveTask;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -10,8 +11,8 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
-import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -21,6 +22,9 @@ class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
 
+    /** Persons are converted in chunks of at most this many, so shorter lists are converted on the calling thread. */
+    static final int CONVERSION_CHUNK_SIZE = 1024;
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
     /**
@@ -32,29 +36,85 @@ class JsonSerializableAddressBook {
     }
 
     /**
-     * Converts a given {@code ReadOnlyAddressBook} into this class for Jackson use.
+     * Converts this address book into the model's {@code AddressBook} object.
      *
-     * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
+     * @throws IllegalValueException if there were any data constraints violated.
      */
-    public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
-        persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+    public AddressBook toModelType() throws IllegalValueException {
+        return toAddressBook(toModelTypes(persons));
     }
 
     /**
-     * Converts this address book into the model's {@code AddressBook} object.
+     * Converts {@code jsonAdaptedPersons} into the model's {@code Person} objects, in the same order.
+     * Long lists are split into chunks that are converted and validated in parallel on the common
+     * {@code ForkJoinPool}.
      *
-     * @throws IllegalValueException if there were any data constraints violated.
+     * @throws IllegalValueException if there were any data constraints violated. If more than one person is invalid,
+     *     the error is that of the first invalid person in the list, as it would be if they were converted in turn.
      */
-    public AddressBook toModelType() throws IllegalValueException {
+    static List<Person> toModelTypes(List<JsonAdaptedPerson> jsonAdaptedPersons) throws IllegalValueException {
+        Person[] persons = new Person[jsonAdaptedPersons.size()];
+        IllegalValueException firstFailure =
+                new ConversionTask(jsonAdaptedPersons, persons, 0, persons.length).invoke();
+        if (firstFailure != null) {
+            throw firstFailure;
+        }
+        return Arrays.asList(persons);
+    }
+
+    /**
+     * Returns an {@code AddressBook} of {@code persons}.
+     *
+     * @throws IllegalValueException if {@code persons} contains duplicate persons.
+     */
+    static AddressBook toAddressBook(List<Person> persons) throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
         }
         return addressBook;
     }
 
+    /**
+     * Converts the persons in {@code [from, to)} of a list into the same positions of an array, splitting the range
+     * in two until it is at most {@link #CONVERSION_CHUNK_SIZE} long. Returns the error of the first invalid person in
+     * the range, or null if all of them are valid.
+     */
+    private static class ConversionTask extends RecursiveTask<IllegalValueException> {
+        private final List<JsonAdaptedPerson> source;
+        private final Person[] target;
+        private final int from;
+        private final int to;
+
+        ConversionTask(List<JsonAdaptedPerson> source, Person[] target, int from, int to) {
+            this.source = source;
+            this.target = target;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected IllegalValueException compute() {
+            if (to - from <= CONVERSION_CHUNK_SIZE) {
+                for (int i = from; i < to; i++) {
+                    try {
+                        target[i] = source.get(i).toModelType();
+                    } catch (IllegalValueException e) {
+                        return e;
+                    }
+                }
+                return null;
+            }
+
+            int middle = (from + to) >>> 1;
+            ConversionTask secondHalf = new ConversionTask(source, target, middle, to);
+            secondHalf.fork();
+            IllegalValueException firstHalfFailure = new ConversionTask(source, target, from, middle).compute();
+            IllegalValueException secondHalfFailure = secondHalf.join();
+            return firstHalfFailure != null ? firstHalfFailure : secondHalfFailure;
+        }
+    }
+
 }
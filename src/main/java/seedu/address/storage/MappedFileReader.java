@@ -0,0 +1,187 @@
+package seedu.address.storage;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads a data file through a window onto it that moves along the file as it is read, so that the file is never
+ * copied onto the heap as a whole.
+ *
+ * Large files are memory-mapped a window at a time, so their contents are read straight from the operating system's
+ * page cache. Other files, and all files on Windows, where a memory-mapped file cannot be replaced until the mapping is
+ * garbage collected, are read into a small reused buffer instead.
+ *
+ * Numbers are read as big-endian, like {@link java.io.DataInputStream} does.
+ */
+public class MappedFileReader implements Closeable {
+
+    /** Files of at least this many bytes are memory-mapped where possible. */
+    public static final long MAPPING_THRESHOLD = 16 << 20;
+
+    static final int MAPPED_WINDOW_SIZE = 64 << 20;
+    static final int BUFFERED_WINDOW_SIZE = 64 << 10;
+
+    static final boolean IS_MAPPING_SUPPORTED = !System.getProperty("os.name").startsWith("Windows");
+
+    private final FileChannel channel;
+    private final long size;
+    private final boolean isMapped;
+    private final int windowSize;
+
+    /** The part of the file starting at {@code windowStart} that can be read without moving the window. */
+    private ByteBuffer window = ByteBuffer.allocate(0);
+    private long windowStart;
+    /** Reused to copy the bytes of each string out of the window, as they are decoded into a new array anyway. */
+    private byte[] stringBytes = new byte[64];
+
+    /**
+     * Opens {@code file} for reading, memory-mapping it if it is large enough and the platform allows it.
+     */
+    public MappedFileReader(Path file) throws IOException {
+        this(file, IS_MAPPING_SUPPORTED && Files.size(file) >= MAPPING_THRESHOLD);
+    }
+
+    private MappedFileReader(Path file, boolean isMapped) throws IOException {
+        this(file, isMapped, isMapped ? MAPPED_WINDOW_SIZE : BUFFERED_WINDOW_SIZE);
+    }
+
+    /**
+     * Opens {@code file} for reading through windows of {@code windowSize} bytes, which are memory-mapped if
+     * {@code isMapped} is true.
+     */
+    MappedFileReader(Path file, boolean isMapped, int windowSize) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.READ);
+        size = channel.size();
+        this.isMapped = isMapped;
+        this.windowSize = windowSize;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public long position() {
+        return windowStart + window.position();
+    }
+
+    public boolean hasRemaining() {
+        return position() < size;
+    }
+
+    /**
+     * Reads the next 4 bytes as an {@code int}.
+     *
+     * @throws EOFException if fewer than 4 bytes are left.
+     */
+    public int readInt() throws IOException {
+        ensureInWindow(Integer.BYTES);
+        return window.getInt();
+    }
+
+    /**
+     * Reads the next {@code length} bytes as a UTF-8 string.
+     *
+     * @throws EOFException if fewer than {@code length} bytes are left.
+     */
+    public String readString(int length) throws IOException {
+        ensureInWindow(length);
+        if (stringBytes.length < length) {
+            stringBytes = new byte[Math.max(length, 2 * stringBytes.length)];
+        }
+        window.get(stringBytes, 0, length);
+        return new String(stringBytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads up to {@code length} bytes into {@code bytes} from {@code offset}, as {@link InputStream#read(byte[], int,
+     * int)} does.
+     *
+     * @return the number of bytes read, or -1 if there are no bytes left.
+     */
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (!window.hasRemaining()) {
+            if (!hasRemaining()) {
+                return -1;
+            }
+            moveWindow(position(), 1);
+        }
+        int bytesRead = Math.min(length, window.remaining());
+        window.get(bytes, offset, bytesRead);
+        return bytesRead;
+    }
+
+    /**
+     * Returns an {@code InputStream} over the rest of the file, which closes this reader when it is closed.
+     */
+    public InputStream asInputStream() {
+        return new InputStream() {
+            @Override
+            public int read() throws IOException {
+                byte[] oneByte = new byte[1];
+                return MappedFileReader.this.read(oneByte, 0, 1) == -1 ? -1 : oneByte[0] & 0xFF;
+            }
+
+            @Override
+            public int read(byte[] bytes, int offset, int length) throws IOException {
+                return MappedFileReader.this.read(bytes, offset, length);
+            }
+
+            @Override
+            public void close() throws IOException {
+                MappedFileReader.this.close();
+            }
+        };
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Moves the window if needed, so that the next {@code length} bytes of the file are in it.
+     */
+    private void ensureInWindow(int length) throws IOException {
+        if (window.remaining() >= length) {
+            return;
+        }
+        long position = position();
+        if (length < 0 || size - position < length) {
+            throw new EOFException("Cannot read " + length + " bytes at position " + position + " of " + size);
+        }
+        moveWindow(position, length);
+    }
+
+    /**
+     * Moves the window to start at {@code position}, making it large enough for at least {@code minLength} bytes.
+     */
+    private void moveWindow(long position, int minLength) throws IOException {
+        int length = (int) Math.min(Math.max(windowSize, minLength), size - position);
+        if (isMapped) {
+            window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+        } else {
+            if (window.capacity() < length) {
+                window = ByteBuffer.allocate(Math.max(length, windowSize));
+            }
+            window.clear().limit(length);
+            while (window.hasRemaining()) {
+                if (channel.read(window, position + window.position()) == -1) {
+                    throw new EOFException("File ended before position " + (position + length));
+                }
+            }
+            window.flip();
+        }
+        windowStart = position;
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javafx.fxml.JavaFXBuilderFactory;
+import javafx.util.BuilderFactory;
+
+/**
+ * Holds what can be shared between loads of FXML files, so that creating a {@code UiPart} for an FXML file that has
+ * been loaded before does not read the file again.
+ *
+ * Each FXML file is read once and its contents kept in memory, and all loaders share one builder factory, which caches
+ * the builders it looks up by class.
+ */
+class FxmlCache {
+
+    /** The contents of each FXML file read so far, by the external form of its URL. */
+    private static final Map<String, byte[]> fileContents = new ConcurrentHashMap<>();
+    private static final BuilderFactory builderFactory = new JavaFXBuilderFactory();
+
+    private FxmlCache() {}
+
+    /**
+     * Returns a stream of the contents of the FXML file at {@code location}, reading the file if it has not been read
+     * before.
+     *
+     * @throws IOException if the file has not been read before and could not be read.
+     */
+    static InputStream openFxmlFile(URL location) throws IOException {
+        requireNonNull(location);
+        String key = location.toExternalForm();
+        byte[] contents = fileContents.get(key);
+        if (contents == null) {
+            try (InputStream inputStream = location.openStream()) {
+                contents = inputStream.readAllBytes();
+            }
+            fileContents.put(key, contents);
+        }
+        return new ByteArrayInputStream(contents);
+    }
+
+    /**
+     * Returns the builder factory to be shared by all FXML loaders.
+     */
+    static BuilderFactory getBuilderFactory() {
+        return builderFactory;
+    }
+}
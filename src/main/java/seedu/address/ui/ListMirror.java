@@ -0,0 +1,97 @@
+package seedu.address.ui;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A copy of an observable list that is changed on another thread, which is kept up to date on the thread that runs the
+ * tasks of an executor, usually the JavaFX application thread.
+ *
+ * Each change to the source list is recorded on the thread that makes it, and the recorded changes are replayed on the
+ * copy in the same order, so the copy goes through the same states as the source list without ever being copied as a
+ * whole again. Changes made while a replay is pending are replayed together with it.
+ */
+class ListMirror<E> {
+
+    private final ObservableList<E> mirror;
+    private final ObservableList<E> unmodifiableMirror;
+    private final Executor mirrorExecutor;
+    private final Queue<Consumer<ObservableList<E>>> pendingChanges = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean isReplayScheduled = new AtomicBoolean();
+
+    /**
+     * Creates a copy of {@code source} that is changed on {@code mirrorExecutor}.
+     * {@code source} must not be changed until this constructor returns.
+     */
+    ListMirror(ObservableList<? extends E> source, Executor mirrorExecutor) {
+        mirror = FXCollections.observableArrayList(source);
+        unmodifiableMirror = FXCollections.unmodifiableObservableList(mirror);
+        this.mirrorExecutor = mirrorExecutor;
+        source.addListener(this::recordChange);
+    }
+
+    /**
+     * Returns the copy, which must only be used on the mirror's executor.
+     */
+    ObservableList<E> getList() {
+        return unmodifiableMirror;
+    }
+
+    /**
+     * Records {@code change} to be replayed, and schedules a replay if none is pending.
+     */
+    private void recordChange(ListChangeListener.Change<? extends E> change) {
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated() || change.wasUpdated()) {
+                List<E> changedElements = new ArrayList<>(change.getList().subList(from, change.getTo()));
+                pendingChanges.add(list -> replaceRange(list, from, from + changedElements.size(), changedElements));
+            } else {
+                int to = from + change.getRemovedSize();
+                List<E> addedElements = new ArrayList<>(change.getAddedSubList());
+                pendingChanges.add(list -> replaceRange(list, from, to, addedElements));
+            }
+        }
+
+        if (isReplayScheduled.compareAndSet(false, true)) {
+            mirrorExecutor.execute(this::replayChanges);
+        }
+    }
+
+    /**
+     * Replays all recorded changes on the copy.
+     */
+    private void replayChanges() {
+        // Changes recorded from now on schedule another replay, so none of them can be missed
+        isReplayScheduled.set(false);
+        Consumer<ObservableList<E>> change;
+        while ((change = pendingChanges.poll()) != null) {
+            change.accept(mirror);
+        }
+    }
+
+    /**
+     * Replaces the elements of {@code list} from {@code from} to {@code to} with {@code elements}.
+     */
+    private static <E> void replaceRange(ObservableList<E> list, int from, int to, List<E> elements) {
+        if (from == 0 && to == list.size()) {
+            list.setAll(elements);
+            return;
+        }
+        if (to > from) {
+            list.remove(from, to);
+        }
+        if (!elements.isEmpty()) {
+            list.addAll(from, elements);
+        }
+    }
+}
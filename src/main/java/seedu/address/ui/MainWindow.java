@@ -1,7 +1,13 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -12,14 +18,20 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
 
 /**
  * The Main Window. Provides the basic application layout containing
  * a menu bar and space where other JavaFX elements can be placed.
+ *
+ * Commands are executed on the command executor, the only thread that changes the model once the window is shown, so
+ * that a slow command does not freeze the window. The window shows copies of the model's observable values, which are
+ * kept up to date on the JavaFX application thread.
  */
 public class MainWindow extends UiPart<Stage> {
 
@@ -29,6 +41,7 @@ public class MainWindow extends UiPart<Stage> {
 
     private Stage primaryStage;
     private Logic logic;
+    private Executor commandExecutor;
 
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
@@ -51,14 +64,16 @@ public class MainWindow extends UiPart<Stage> {
     private StackPane statusbarPlaceholder;
 
     /**
-     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
+     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}, which executes commands on
+     * {@code commandExecutor}.
      */
-    public MainWindow(Stage primaryStage, Logic logic) {
+    public MainWindow(Stage primaryStage, Logic logic, Executor commandExecutor) {
         super(FXML, primaryStage);
 
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.commandExecutor = commandExecutor;
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
@@ -108,15 +123,22 @@ public class MainWindow extends UiPart<Stage> {
 
     /**
      * Fills up all the placeholders of this window.
+     * The model must not be changed until this method returns.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
+        ListMirror<Person> filteredPersonList = new ListMirror<>(logic.getFilteredPersonList(), Platform::runLater);
+        personListPanel = new PersonListPanel(filteredPersonList.getList());
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        ReadOnlyDoubleProperty addressBookLoadingProgress = logic.getAddressBookLoadingProgress();
+        DoubleProperty shownLoadingProgress = new SimpleDoubleProperty(addressBookLoadingProgress.get());
+        addressBookLoadingProgress.addListener((unused1, unused2, newProgress) ->
+                Platform.runLater(() -> shownLoadingProgress.set(newProgress.doubleValue())));
+        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath(), shownLoadingProgress);
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
@@ -158,7 +180,7 @@ public class MainWindow extends UiPart<Stage> {
     private void handleExit() {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
-        logic.setGuiSettings(guiSettings);
+        commandExecutor.execute(() -> logic.setGuiSettings(guiSettings));
         helpWindow.hide();
         primaryStage.hide();
     }
@@ -168,29 +190,46 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Executes the command on the command executor, and shows its result once it is done.
      *
+     * @return the result, which is completed on the JavaFX application thread.
      * @see seedu.address.logic.Logic#execute(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-
-            if (commandResult.isShowHelp()) {
-                handleHelp();
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        commandExecutor.execute(() -> {
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                Platform.runLater(() -> showCommandResult(commandResult, result));
+            } catch (CommandException | ParseException e) {
+                logger.info("An error occurred while executing command: " + commandText);
+                Platform.runLater(() -> showCommandFailure(e, result));
+            } catch (Throwable e) {
+                // Errors are caught too, so that the command box is never left waiting for a result that never comes
+                logger.severe("Command failed unexpectedly: " + commandText + StringUtil.getDetails(e));
+                Platform.runLater(() -> result.completeExceptionally(e));
             }
+        });
+        return result;
+    }
 
-            if (commandResult.isExit()) {
-                handleExit();
-            }
+    private void showCommandResult(CommandResult commandResult, CompletableFuture<CommandResult> result) {
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+        if (commandResult.isExit()) {
+            handleExit();
         }
+
+        result.complete(commandResult);
+    }
+
+    private void showCommandFailure(Exception e, CompletableFuture<CommandResult> result) {
+        resultDisplay.setFeedbackToUser(e.getMessage());
+        result.completeExceptionally(e);
     }
 }
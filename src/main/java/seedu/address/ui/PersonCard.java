@@ -1,8 +1,11 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
 
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
@@ -11,6 +14,8 @@ import seedu.address.model.person.Person;
 
 /**
  * An UI component that displays information of a {@code Person}.
+ * A card can be rebound to show another person, so that it does not have to be loaded again, e.g. when a list cell is
+ * reused for another row.
  */
 public class PersonCard extends UiPart<Region> {
 
@@ -24,7 +29,7 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
+    private Person person;
 
     @FXML
     private HBox cardPane;
@@ -41,19 +46,54 @@ public class PersonCard extends UiPart<Region> {
     @FXML
     private FlowPane tags;
 
+    /**
+     * Creates a {@code PersonCard} that shows no person until {@link #setPerson(Person, int)} is called.
+     */
+    public PersonCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code PersonCode} with the given {@code Person} and index to display.
      */
     public PersonCard(Person person, int displayedIndex) {
-        super(FXML);
+        this();
+        setPerson(person, displayedIndex);
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Shows {@code person} with {@code displayedIndex} on this card, in place of the person shown before.
+     * The labels of the tags shown before are reused for the new tags.
+     */
+    public void setPerson(Person person, int displayedIndex) {
         this.person = person;
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
         phone.setText(person.getPhone().value);
         address.setText(person.getAddress().value);
         email.setText(person.getEmail().value);
-        person.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+
+        List<String> tagNames = person.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted()
+                .collect(Collectors.toList());
+        ObservableList<Node> tagLabels = tags.getChildren();
+        for (int i = 0; i < tagNames.size(); i++) {
+            if (i == tagLabels.size()) {
+                tagLabels.add(new Label(tagNames.get(i)));
+                continue;
+            }
+            Label tagLabel = (Label) tagLabels.get(i);
+            if (!tagLabel.getText().equals(tagNames.get(i))) {
+                tagLabel.setText(tagNames.get(i));
+            }
+        }
+        if (tagLabels.size() > tagNames.size()) {
+            tagLabels.remove(tagNames.size(), tagLabels.size());
+        }
     }
 }
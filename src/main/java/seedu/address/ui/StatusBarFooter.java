@@ -3,26 +3,53 @@ package seedu.address.ui;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import javafx.beans.binding.Bindings;
+import javafx.beans.value.ObservableNumberValue;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
+import seedu.address.logic.AddressBookLoader;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
  */
 public class StatusBarFooter extends UiPart<Region> {
 
+    public static final String MESSAGE_READING = "Reading address book...";
+    public static final String MESSAGE_LOADING = "Loading address book: %d%%";
+
     private static final String FXML = "StatusBarFooter.fxml";
 
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label loadingStatus;
+
     /**
-     * Creates a {@code StatusBarFooter} with the given {@code Path}.
+     * Creates a {@code StatusBarFooter} with the given {@code Path}, which shows the progress of loading the address
+     * book until it has been loaded.
      */
-    public StatusBarFooter(Path saveLocation) {
+    public StatusBarFooter(Path saveLocation, ObservableNumberValue loadingProgress) {
         super(FXML);
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+        loadingStatus.textProperty().bind(Bindings.createStringBinding(() ->
+                getLoadingStatus(loadingProgress.doubleValue()), loadingProgress));
+    }
+
+    /**
+     * Returns the status to show for the given progress of loading the address book.
+     *
+     * @see AddressBookLoader#progressProperty()
+     */
+    static String getLoadingStatus(double progress) {
+        if (progress == AddressBookLoader.PROGRESS_LOADED) {
+            return "";
+        }
+        if (progress == AddressBookLoader.PROGRESS_READING) {
+            return MESSAGE_READING;
+        }
+        return String.format(MESSAGE_LOADING, (int) (progress * 100));
     }
 
 }
@@ -3,6 +3,7 @@ package seedu.address.ui;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
 
 import javafx.fxml.FXMLLoader;
@@ -17,7 +18,7 @@ public abstract class UiPart<T> {
     /** Resource folder where FXML files are stored. */
     public static final String FXML_FILE_FOLDER = "/view/";
 
-    private final FXMLLoader fxmlLoader = new FXMLLoader();
+    private final FXMLLoader fxmlLoader = new FXMLLoader(null, null, FxmlCache.getBuilderFactory());
 
     /**
      * Constructs a UiPart with the specified FXML file URL.
@@ -60,6 +61,7 @@ public abstract class UiPart<T> {
 
     /**
      * Loads the object hierarchy from a FXML document.
+     * The document is only read from {@code location} the first time it is loaded, and kept in the {@code FxmlCache}.
      * @param location Location of the FXML document.
      * @param root Specifies the root of the object hierarchy.
      */
@@ -68,8 +70,8 @@ public abstract class UiPart<T> {
         fxmlLoader.setLocation(location);
         fxmlLoader.setController(this);
         fxmlLoader.setRoot(root);
-        try {
-            fxmlLoader.load();
+        try (InputStream fxmlFile = FxmlCache.openFxmlFile(location)) {
+            fxmlLoader.load(fxmlFile);
         } catch (IOException e) {
             throw new AssertionError(e);
         }
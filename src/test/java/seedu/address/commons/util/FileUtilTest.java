@@ -1,13 +1,38 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.testutil.FaultInjectingOutputStream;
 
 public class FileUtilTest {
 
+    private static final String OLD_CONTENT = "old content";
+    private static final String NEW_CONTENT = String.join("\n", Collections.nCopies(20, "new content"));
+
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +45,67 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_missingFileAndFolder_created() throws Exception {
+        Path file = testFolder.resolve("folder").resolve("file.txt");
+        FileUtil.writeToFile(file, NEW_CONTENT);
+        assertEquals(NEW_CONTENT, FileUtil.readFromFile(file));
+        assertEquals(Collections.singletonList(file), listFolder(file.getParent()));
+    }
+
+    @Test
+    public void writeToFile_posixFileSystem_permissionsOfNewOrReplacedFileKept() throws Exception {
+        assumeTrue(testFolder.getFileSystem().supportedFileAttributeViews().contains("posix"));
+
+        // a new file gets the same permissions as any other new file
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, OLD_CONTENT);
+        Path otherFile = Files.createFile(testFolder.resolve("other.txt"));
+        assertEquals(Files.getPosixFilePermissions(otherFile), Files.getPosixFilePermissions(file));
+
+        // a replaced file keeps its permissions
+        Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-rw-r--");
+        Files.setPosixFilePermissions(file, permissions);
+        FileUtil.writeToFileKeepingBackup(file, outputStream ->
+                outputStream.write(NEW_CONTENT.getBytes(StandardCharsets.UTF_8)));
+        assertEquals(NEW_CONTENT, FileUtil.readFromFile(file));
+        assertEquals(permissions, Files.getPosixFilePermissions(file));
+    }
+
+    @Test
+    public void writeToFileKeepingBackup_existingFile_replacedAndBackupKept() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, OLD_CONTENT);
+        FileUtil.writeToFileKeepingBackup(file, outputStream ->
+                outputStream.write(NEW_CONTENT.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(NEW_CONTENT, FileUtil.readFromFile(file));
+        assertEquals(OLD_CONTENT, FileUtil.readFromFile(FileUtil.getBackupFilePath(file)));
+        assertEquals(new HashSet<>(Arrays.asList(file, FileUtil.getBackupFilePath(file))),
+                new HashSet<>(listFolder(testFolder)));
+    }
+
+    @Test
+    public void writeToFile_faultAtEveryOffset_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, OLD_CONTENT);
+        byte[] newContent = NEW_CONTENT.getBytes(StandardCharsets.UTF_8);
+
+        for (int faultOffset = 0; faultOffset < newContent.length; faultOffset++) {
+            int offset = faultOffset;
+            assertThrows(IOException.class, String.format(FaultInjectingOutputStream.MESSAGE_INJECTED_FAULT, offset), ()
+                    -> FileUtil.writeToFileKeepingBackup(file, outputStream ->
+                            new FaultInjectingOutputStream(outputStream, offset).write(newContent)));
+            assertEquals(OLD_CONTENT, FileUtil.readFromFile(file));
+            // no partly written temporary file is left behind, and the backup is untouched
+            assertEquals(Collections.singletonList(file), listFolder(testFolder));
+        }
+    }
+
+    private static List<Path> listFolder(Path folder) throws IOException {
+        try (Stream<Path> files = Files.list(folder)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+
 }
@@ -1,12 +1,21 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.testutil.FaultInjectingOutputStream;
 import seedu.address.testutil.SerializableTestClass;
 import seedu.address.testutil.TestUtil;
 
@@ -17,6 +26,9 @@ public class JsonUtilTest {
 
     private static final Path SERIALIZATION_FILE = TestUtil.getFilePathInSandboxFolder("serialize.json");
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void serializeObjectToJsonFile_noExceptionThrown() throws IOException {
         SerializableTestClass serializableTestClass = new SerializableTestClass();
@@ -39,6 +51,47 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void saveJsonArrayElements_writeCutShortAtAnyOffset_previousDocumentReadable() throws Exception {
+        Path file = testFolder.resolve("elements.json");
+        List<String> oldElements = Arrays.asList("Alice", "Benson");
+        List<String> newElements = Arrays.asList("Carl", "Daniel", "Elle", "Fiona", "George");
+        JsonUtil.saveJsonArrayElements(oldElements.iterator(), "elements", file);
+
+        ByteArrayOutputStream newDocument = new ByteArrayOutputStream();
+        JsonUtil.writeJsonArrayElements(newElements.iterator(), "elements", newDocument);
+        for (int faultOffset = 0; faultOffset < newDocument.size(); faultOffset++) {
+            int offset = faultOffset;
+            assertThrows(IOException.class, () -> FileUtil.writeToFileKeepingBackup(file, outputStream ->
+                    JsonUtil.writeJsonArrayElements(newElements.iterator(), "elements",
+                            new FaultInjectingOutputStream(outputStream, offset))));
+            assertEquals(oldElements, readElements(file));
+        }
+
+        JsonUtil.saveJsonArrayElements(newElements.iterator(), "elements", file);
+        assertEquals(newElements, readElements(file));
+        assertEquals(oldElements, readElements(FileUtil.getBackupFilePath(file)));
+    }
+
+    @Test
+    public void readJsonArrayElements_documentCutShortAtAnyOffset_throwsIOException() throws Exception {
+        ByteArrayOutputStream document = new ByteArrayOutputStream();
+        JsonUtil.writeJsonArrayElements(Arrays.asList("Alice", "Benson").iterator(), "elements", document);
+        byte[] documentBytes = document.toString(StandardCharsets.UTF_8).trim().getBytes(StandardCharsets.UTF_8);
+
+        for (int length = 0; length < documentBytes.length; length++) {
+            ByteArrayInputStream truncatedDocument = new ByteArrayInputStream(documentBytes, 0, length);
+            assertThrows(IOException.class, () -> JsonUtil.readJsonArrayElements(truncatedDocument, "elements",
+                    String.class, unused -> { }));
+        }
+    }
+
+    private static List<String> readElements(Path file) throws Exception {
+        List<String> elements = new ArrayList<>();
+        JsonUtil.readJsonArrayElements(file, "elements", String.class, elements::add);
+        return elements;
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
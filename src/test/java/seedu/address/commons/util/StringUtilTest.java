@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
@@ -123,6 +125,74 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for wordMatcherIgnoreCase --------------------------------------
+
+    /*
+     * Invalid equivalence partitions for words: null collection, null word, empty word, multiple words
+     * Invalid equivalence partitions for sentence: null
+     */
+
+    @Test
+    public void wordMatcherIgnoreCase_nullWords_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.wordMatcherIgnoreCase(null));
+        assertThrows(NullPointerException.class, () -> StringUtil.wordMatcherIgnoreCase(Arrays.asList("abc", null)));
+    }
+
+    @Test
+    public void wordMatcherIgnoreCase_emptyWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, "Word parameter cannot be empty", ()
+            -> StringUtil.wordMatcherIgnoreCase(Arrays.asList("abc", "  ")));
+    }
+
+    @Test
+    public void wordMatcherIgnoreCase_multipleWords_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, "Word parameter should be a single word", ()
+            -> StringUtil.wordMatcherIgnoreCase(Collections.singletonList("aaa BBB")));
+        assertThrows(IllegalArgumentException.class, "Word parameter should be a single word", ()
+            -> StringUtil.wordMatcherIgnoreCase(Collections.singletonList("aaa\tBBB")));
+    }
+
+    @Test
+    public void wordMatcherIgnoreCase_nullSentence_throwsNullPointerException() {
+        StringUtil.WordMatcher matcher = StringUtil.wordMatcherIgnoreCase(Collections.singletonList("abc"));
+        assertThrows(NullPointerException.class, () -> matcher.matches(null));
+    }
+
+    /*
+     * Valid equivalence partitions for words: no words, one word, multiple words, words with leading/trailing spaces
+     * Valid equivalence partitions for sentence: as for containsWordIgnoreCase
+     */
+
+    @Test
+    public void wordMatcherIgnoreCase_validInputs_correctResult() {
+        // No words
+        assertFalse(StringUtil.wordMatcherIgnoreCase(Collections.emptyList()).matches("aaa bbb"));
+
+        // Empty sentence
+        assertFalse(matches("", "abc")); // Boundary case
+        assertFalse(matches("    ", "123"));
+
+        // Matches a partial word only
+        assertFalse(matches("aaa bbb ccc", "bb")); // Sentence word bigger than query word
+        assertFalse(matches("aaa bbb ccc", "bbbb")); // Query word bigger than sentence word
+
+        // Matches word in the sentence, different upper/lower case letters
+        assertTrue(matches("aaa bBb ccc", "Bbb")); // First word (boundary case)
+        assertTrue(matches("aaa bBb ccc@1", "CCc@1")); // Last word (boundary case)
+        assertTrue(matches("  AAA   bBb   ccc  ", "aaa")); // Sentence has extra spaces
+        assertTrue(matches("aaa\tbbb\nccc", "bbb")); // Sentence separated by other whitespace
+        assertTrue(matches("Aaa", "aaa")); // Only one word in sentence (boundary case)
+        assertTrue(matches("aaa bbb ccc", "  ccc  ")); // Leading/trailing spaces
+
+        // Matches any of multiple words
+        assertTrue(matches("AAA bBb ccc  bbb", "xyz", "bbB"));
+        assertFalse(matches("AAA bBb ccc  bbb", "xyz", "bb"));
+    }
+
+    private boolean matches(String sentence, String... words) {
+        return StringUtil.wordMatcherIgnoreCase(Arrays.asList(words)).matches(sentence);
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
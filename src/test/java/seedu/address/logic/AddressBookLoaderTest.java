@@ -0,0 +1,120 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+public class AddressBookLoaderTest {
+
+    private final Model model = new ModelManager();
+    private final BlockingQueue<Runnable> pendingTasks = new LinkedBlockingQueue<>();
+
+    @Test
+    public void load_typicalAddressBook_addedInBatches() {
+        AddressBookLoader loader = new AddressBookLoader(model, () -> getTypicalAddressBook(), pendingTasks::add, 3);
+        assertEquals(AddressBookLoader.PROGRESS_READING, loader.progressProperty().get());
+
+        loader.load();
+        List<Person> typicalPersons = getTypicalPersons();
+        for (int added = 3; added < typicalPersons.size(); added += 3) {
+            pendingTasks.remove().run();
+            assertEquals(typicalPersons.subList(0, added), model.getFilteredPersonList());
+            assertEquals((double) added / typicalPersons.size(), loader.progressProperty().get());
+            assertFalse(loader.isLoaded());
+        }
+        pendingTasks.remove().run();
+
+        assertTrue(pendingTasks.isEmpty());
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        assertTrue(loader.isLoaded());
+        assertEquals(AddressBookLoader.PROGRESS_LOADED, loader.progressProperty().get());
+    }
+
+    @Test
+    public void load_emptyAddressBook_loaded() {
+        AddressBookLoader loader = new AddressBookLoader(model, AddressBook::new, pendingTasks::add);
+        loader.load();
+        pendingTasks.remove().run();
+
+        assertTrue(pendingTasks.isEmpty());
+        assertEquals(new AddressBook(), model.getAddressBook());
+        assertTrue(loader.isLoaded());
+    }
+
+    @Test
+    public void load_readerFails_emptyAddressBookLoaded() {
+        AddressBookLoader loader = new AddressBookLoader(model, () -> {
+            throw new IllegalStateException("Data file is corrupted");
+        }, pendingTasks::add);
+        loader.load();
+        pendingTasks.remove().run();
+
+        assertTrue(pendingTasks.isEmpty());
+        assertEquals(new AddressBook(), model.getAddressBook());
+        assertTrue(loader.isLoaded());
+        assertEquals(AddressBookLoader.PROGRESS_LOADED, loader.progressProperty().get());
+    }
+
+    @Test
+    public void load_addingPersonsFails_emptyAddressBookLoaded() {
+        // The duplicate of ALICE is only added in the second batch, which fails
+        ReadOnlyAddressBook duplicatePersons = () -> FXCollections.observableArrayList(ALICE, BENSON, ALICE);
+        AddressBookLoader loader = new AddressBookLoader(model, () -> duplicatePersons, pendingTasks::add, 2);
+        loader.load();
+        pendingTasks.remove().run();
+        assertEquals(Arrays.asList(ALICE, BENSON), model.getFilteredPersonList());
+        pendingTasks.remove().run();
+
+        assertTrue(pendingTasks.isEmpty());
+        assertEquals(new AddressBook(), model.getAddressBook());
+        assertTrue(loader.isLoaded());
+    }
+
+    @Test
+    public void load_filteredPersonList_filterKept() {
+        model.updateFilteredPersonList(BENSON::equals);
+        AddressBookLoader loader = new AddressBookLoader(model, () -> getTypicalAddressBook(), pendingTasks::add, 1);
+        loader.load();
+        while (!pendingTasks.isEmpty()) {
+            pendingTasks.remove().run();
+        }
+
+        assertEquals(Collections.singletonList(BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void start_typicalAddressBook_readOnBackgroundThread() throws Exception {
+        Thread testThread = Thread.currentThread();
+        AddressBookLoader loader = new AddressBookLoader(model, () -> {
+            assertFalse(Thread.currentThread() == testThread);
+            return getTypicalAddressBook();
+        }, pendingTasks::add);
+        loader.start();
+
+        Runnable firstBatch = pendingTasks.poll(10, TimeUnit.SECONDS);
+        assertTrue(model.getFilteredPersonList().isEmpty());
+        firstBatch.run();
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        assertTrue(loader.isLoaded());
+    }
+}
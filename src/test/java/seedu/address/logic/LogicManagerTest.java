@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -9,17 +11,30 @@ import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -28,6 +43,7 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.storage.BackgroundAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
@@ -70,6 +86,83 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_readOnlyCommands_writesNothing() throws Exception {
+        Path addressBookFilePath = temporaryFolder.resolve("addressBook.json");
+        for (String readOnlyCommand : new String[] {ListCommand.COMMAND_WORD, FindCommand.COMMAND_WORD + " Amy",
+                HelpCommand.COMMAND_WORD, ExitCommand.COMMAND_WORD}) {
+            logic.execute(readOnlyCommand);
+            assertFalse(Files.exists(addressBookFilePath));
+        }
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        byte[] savedData = Files.readAllBytes(addressBookFilePath);
+        Files.write(addressBookFilePath, new byte[0]);
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(FindCommand.COMMAND_WORD + " Amy");
+        assertEquals(0, Files.size(addressBookFilePath));
+
+        // a mutating command that fails leaves the data unchanged, so nothing is written either
+        assertThrows(CommandException.class, () -> logic.execute(DeleteCommand.COMMAND_WORD + " 9"));
+        assertEquals(0, Files.size(addressBookFilePath));
+
+        logic.execute(ClearCommand.COMMAND_WORD);
+        assertTrue(Files.size(addressBookFilePath) > 0);
+        assertFalse(Arrays.equals(savedData, Files.readAllBytes(addressBookFilePath)));
+    }
+
+    @Test
+    public void execute_addressBookLoading_onlyCommandsNotUsingAddressBookExecuted() throws Exception {
+        Path addressBookFilePath = temporaryFolder.resolve("addressBook.json");
+        Queue<Runnable> pendingBatches = new ArrayDeque<>();
+        AddressBookLoader addressBookLoader =
+                new AddressBookLoader(model, () -> getTypicalAddressBook(), pendingBatches::add, 2);
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(new JsonAddressBookStorage(addressBookFilePath),
+                userPrefsStorage), addressBookLoader);
+
+        assertThrows(CommandException.class, LogicManager.MESSAGE_ADDRESS_BOOK_LOADING, () ->
+                logic.execute(ListCommand.COMMAND_WORD));
+        logic.execute(HelpCommand.COMMAND_WORD);
+        addressBookLoader.load();
+        pendingBatches.remove().run();
+        assertThrows(CommandException.class, LogicManager.MESSAGE_ADDRESS_BOOK_LOADING, () ->
+                logic.execute(ClearCommand.COMMAND_WORD));
+        while (!pendingBatches.isEmpty()) {
+            pendingBatches.remove().run();
+        }
+
+        // the loaded persons came from the storage, so they are not saved again
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS,
+                new ModelManager(getTypicalAddressBook(), new UserPrefs()));
+        assertFalse(Files.exists(addressBookFilePath));
+        logic.execute(ClearCommand.COMMAND_WORD);
+        assertTrue(Files.exists(addressBookFilePath));
+    }
+
+    @Test
+    public void execute_afterFailedSave_savesOnNextCommand() throws Exception {
+        List<ReadOnlyAddressBook> savedAddressBooks = new ArrayList<>();
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(temporaryFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                savedAddressBooks.add(addressBook);
+                if (savedAddressBooks.size() == 1) {
+                    throw DUMMY_IO_EXCEPTION;
+                }
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        assertThrows(CommandException.class, () -> logic.execute(
+                AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY));
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(2, savedAddressBooks.size());
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(2, savedAddressBooks.size());
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
@@ -82,6 +175,51 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_backgroundSaveFails_failureHandledAndSavedAgainByNextCommand() throws Exception {
+        CountDownLatch addCommandExecuted = new CountDownLatch(1);
+        List<ReadOnlyAddressBook> savedAddressBooks = new ArrayList<>();
+        Path addressBookFilePath = temporaryFolder.resolve("addressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(addressBookFilePath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                try {
+                    addCommandExecuted.await();
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+                savedAddressBooks.add(addressBook);
+                if (savedAddressBooks.size() == 1) {
+                    throw DUMMY_IO_EXCEPTION;
+                }
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        StorageManager storage = new StorageManager(new BackgroundAddressBookStorage(jsonAddressBookStorage),
+                userPrefsStorage);
+        logic = new LogicManager(model, storage);
+        List<String> saveFailureMessages = new ArrayList<>();
+        logic.setSaveFailureHandler(saveFailureMessages::add);
+
+        // the add command returns before its save fails
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        addCommandExecuted.countDown();
+        storage.flushAddressBook();
+        assertEquals(Arrays.asList(String.format(LogicManager.FILE_OPS_ERROR_FORMAT,
+                DUMMY_IO_EXCEPTION.getMessage())), saveFailureMessages);
+
+        // the next command saves the address book again, although it does not change it
+        logic.execute(ListCommand.COMMAND_WORD);
+        storage.flushAddressBook();
+        assertEquals(2, savedAddressBooks.size());
+        assertEquals(model.getAddressBook().getPersonList(), savedAddressBooks.get(1).getPersonList());
+        assertEquals(1, saveFailureMessages.size());
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        storage.flushAddressBook();
+        assertEquals(2, savedAddressBooks.size());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -0,0 +1,114 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ObservableList;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonOrder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for SortCommand.
+ */
+public class SortCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_nullOrder_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SortCommand(null));
+    }
+
+    @Test
+    public void execute_sortByEmail_listSortedByEmail() {
+        expectedModel.sortFilteredPersonList(PersonOrder.EMAIL.getComparator());
+        assertCommandSuccess(new SortCommand(PersonOrder.EMAIL), model,
+                String.format(SortCommand.MESSAGE_SUCCESS, "email"), expectedModel);
+        assertEquals(Arrays.asList(ALICE, GEORGE, DANIEL, CARL, BENSON, FIONA, ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_sortByAdded_listInAddedOrder() {
+        model.sortFilteredPersonList(PersonOrder.PHONE.getComparator());
+        assertCommandSuccess(new SortCommand(PersonOrder.ADDED), model, SortCommand.MESSAGE_SUCCESS_ADDED,
+                expectedModel);
+        assertEquals(getTypicalAddressBook().getPersonList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_compactPersonStorage_personsNotKeptOnceSortedByAdded() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setCompactPersonStorage(true);
+        Model compactModel = new ModelManager(getTypicalAddressBook(), userPrefs);
+        ObservableList<Person> displayedPersons = compactModel.getFilteredPersonList();
+
+        new SortCommand(PersonOrder.NAME).execute(compactModel);
+        new SortCommand(PersonOrder.ADDED).execute(compactModel);
+
+        // the same list is still displayed, and it reads each person from the compact storage instead of keeping it
+        assertSame(displayedPersons, compactModel.getFilteredPersonList());
+        assertEquals(getTypicalAddressBook().getPersonList(), displayedPersons);
+        assertNotSame(displayedPersons.get(0), displayedPersons.get(0));
+    }
+
+    @Test
+    public void execute_thenDelete_deletesFirstDisplayedPerson() throws Exception {
+        new SortCommand(PersonOrder.EMAIL).execute(model);
+        CommandResult result = new DeleteCommand(INDEX_FIRST_PERSON).execute(model);
+
+        assertEquals(String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(ALICE)),
+                result.getFeedbackToUser());
+        assertEquals(Arrays.asList(GEORGE, DANIEL, CARL, BENSON, FIONA, ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void equals() {
+        SortCommand sortByNameCommand = new SortCommand(PersonOrder.NAME);
+        SortCommand sortByEmailCommand = new SortCommand(PersonOrder.EMAIL);
+
+        // same object -> returns true
+        assertTrue(sortByNameCommand.equals(sortByNameCommand));
+
+        // same values -> returns true
+        assertTrue(sortByNameCommand.equals(new SortCommand(PersonOrder.NAME)));
+
+        // different types -> returns false
+        assertFalse(sortByNameCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(sortByNameCommand.equals(null));
+
+        // different order -> returns false
+        assertFalse(sortByNameCommand.equals(sortByEmailCommand));
+    }
+
+    @Test
+    public void toStringMethod() {
+        SortCommand sortCommand = new SortCommand(PersonOrder.NAME);
+        String expected = SortCommand.class.getCanonicalName() + "{order=" + PersonOrder.NAME + "}";
+        assertEquals(expected, sortCommand.toString());
+    }
+}
@@ -2,14 +2,21 @@ package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PersonMatchesFieldsPredicate;
+import seedu.address.model.tag.Tag;
 
 public class FindCommandParserTest {
 
@@ -31,4 +38,38 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_validPrefixedArgs_returnsFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(new PersonMatchesFieldsPredicate(
+                Arrays.asList("Alice", "Bob"), Optional.of("9123"), Optional.of("@example.com"),
+                Arrays.asList("Jurong", "West"), new HashSet<>(Arrays.asList(new Tag("friends"), new Tag("vip")))));
+        assertParseSuccess(parser, " n/Alice Bob p/9123 e/@example.com a/Jurong West, t/friends t/vip",
+                expectedFindCommand);
+
+        // single criterion
+        expectedFindCommand = new FindCommand(new PersonMatchesFieldsPredicate(Collections.emptyList(),
+                Optional.of("9123"), Optional.empty(), Collections.emptyList(), Collections.emptySet()));
+        assertParseSuccess(parser, " p/ 9123 ", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidPrefixedArgs_throwsParseException() {
+        String invalidFormat = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+
+        // preamble before prefixes
+        assertParseFailure(parser, "Alice p/9123", invalidFormat);
+
+        // no criteria given
+        assertParseFailure(parser, " n/ a/ ,", invalidFormat);
+
+        // repeated non-tag prefix
+        assertParseFailure(parser, " p/9123 p/8123", Messages.getErrorMessageForDuplicatePrefixes(PREFIX_PHONE));
+
+        // invalid criteria
+        assertParseFailure(parser, " p/91a", FindCommandParser.MESSAGE_INVALID_PHONE_PREFIX);
+        assertParseFailure(parser, " e/", FindCommandParser.MESSAGE_INVALID_EMAIL_DOMAIN);
+        assertParseFailure(parser, " e/a@b", FindCommandParser.MESSAGE_INVALID_EMAIL_DOMAIN);
+        assertParseFailure(parser, " t/not a tag", Tag.MESSAGE_CONSTRAINTS);
+    }
+
 }
@@ -7,19 +7,29 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonMatchesFieldsPredicate;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -78,6 +88,158 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void findPersons_afterResetData_findsNewPersons() {
+        addressBook.addPerson(BOB);
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(new HashSet<>(Arrays.asList(BENSON, DANIEL)),
+                addressBook.findPersons(new NameContainsKeywordsPredicate(Collections.singletonList("meier"))));
+        assertTrue(addressBook.findPersons(nameKeyword("Bob")).isEmpty());
+    }
+
+    @Test
+    public void findPersons_afterPersonEditedAndRemoved_reflectsChanges() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        addressBook.setPerson(ALICE, BOB);
+        assertTrue(addressBook.findPersons(nameKeyword("Alice")).isEmpty());
+        assertEquals(Collections.singleton(BOB),
+                addressBook.findPersons(new NameContainsKeywordsPredicate(Arrays.asList("bob", "Pauline"))));
+
+        addressBook.removePerson(BENSON);
+        assertTrue(addressBook.findPersons(nameKeyword("Benson")).isEmpty());
+    }
+
+    @Test
+    public void findPersons_fieldCriteria_reflectsEdits() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        PersonMatchesFieldsPredicate friendsPredicate = new PersonMatchesFieldsPredicate(Collections.emptyList(),
+                Optional.empty(), Optional.empty(), Collections.emptyList(), Collections.singleton(new Tag("friends")));
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, BENSON)), addressBook.findPersons(friendsPredicate));
+
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertEquals(Collections.singleton(BENSON), addressBook.findPersons(friendsPredicate));
+    }
+
+    @Test
+    public void getPersonsByTag_personsAddedEditedAndRemoved_reflectsChanges() {
+        Map<Tag, Set<Person>> personsByTag = addressBook.getPersonsByTag();
+        assertTrue(personsByTag.isEmpty());
+
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        assertEquals(new HashSet<>(Arrays.asList(new Tag("friends"), new Tag("owesMoney"))), personsByTag.keySet());
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, BENSON)), personsByTag.get(new Tag("friends")));
+
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertEquals(Collections.singleton(BENSON), personsByTag.get(new Tag("friends")));
+        assertEquals(Collections.singleton(editedAlice), personsByTag.get(new Tag(VALID_TAG_HUSBAND)));
+
+        addressBook.removePerson(BENSON);
+        assertEquals(Collections.singleton(new Tag(VALID_TAG_HUSBAND)), personsByTag.keySet());
+    }
+
+    @Test
+    public void getPersonsByTag_afterResetData_reflectsNewData() {
+        addressBook.addPerson(BOB);
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(new HashSet<>(Arrays.asList(new Tag("friends"), new Tag("owesMoney"))),
+                addressBook.getPersonsByTag().keySet());
+        assertEquals(3, addressBook.getPersonsByTag().get(new Tag("friends")).size());
+    }
+
+    @Test
+    public void getPersonsByTag_modifyMapOrSet_throwsUnsupportedOperationException() {
+        addressBook.addPerson(ALICE);
+        assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonsByTag().clear());
+        assertThrows(UnsupportedOperationException.class, () ->
+                addressBook.getPersonsByTag().get(new Tag("friends")).remove(ALICE));
+    }
+
+    @Test
+    public void createCompact_copiesPersonsAndBehavesLikeAddressBook() {
+        AddressBook compactAddressBook = AddressBook.createCompact(getTypicalAddressBook());
+        assertEquals(getTypicalAddressBook(), compactAddressBook);
+
+        compactAddressBook.addPerson(BOB);
+        assertThrows(DuplicatePersonException.class, () -> compactAddressBook.addPerson(BOB));
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        compactAddressBook.setPerson(ALICE, editedAlice);
+        compactAddressBook.removePerson(BENSON);
+        assertTrue(compactAddressBook.hasPerson(editedAlice));
+        assertFalse(compactAddressBook.hasPerson(BENSON));
+
+        assertEquals(new HashSet<>(Arrays.asList(editedAlice, BOB)),
+                compactAddressBook.getPersonsByTag().get(new Tag(VALID_TAG_HUSBAND)));
+        assertFalse(compactAddressBook.hasIndexes());
+        assertEquals(Collections.singleton(DANIEL), compactAddressBook.findPersons(nameKeyword("Meier")));
+    }
+
+    @Test
+    public void addPersons_persons_addedInOrder() {
+        addressBook.addPerson(ALICE);
+        addressBook.removePerson(ALICE);
+        addressBook.addPerson(BENSON);
+        addressBook.addPersons(Arrays.asList(BOB, DANIEL));
+        assertEquals(Arrays.asList(BENSON, BOB, DANIEL), addressBook.getPersonList());
+        assertEquals(Collections.singleton(DANIEL), addressBook.findPersons(nameKeyword("Daniel")));
+
+        // the added persons can be found by position
+        addressBook.removePerson(BOB);
+        addressBook.setPerson(DANIEL, ALICE);
+        assertEquals(Arrays.asList(BENSON, ALICE), addressBook.getPersonList());
+    }
+
+    @Test
+    public void addPersons_personAlreadyInAddressBook_noneAdded() {
+        addressBook.addPerson(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> addressBook.addPersons(Arrays.asList(BENSON, ALICE)));
+        assertEquals(Collections.singletonList(ALICE), addressBook.getPersonList());
+        assertTrue(addressBook.findPersons(nameKeyword("Benson")).isEmpty());
+        assertThrows(DuplicatePersonException.class, () -> addressBook.addPersons(Arrays.asList(BOB, BOB)));
+        assertEquals(Collections.singletonList(ALICE), addressBook.getPersonList());
+    }
+
+    @Test
+    public void batchUpdate_failingChange_changesUndoneInPersonsAndIndexes() {
+        addressBook.resetData(getTypicalAddressBook());
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        long modificationCount = addressBook.getModificationCount();
+
+        assertThrows(DuplicatePersonException.class, () -> addressBook.batchUpdate(() -> {
+            addressBook.removePerson(DANIEL);
+            addressBook.setPerson(ALICE, editedAlice);
+            addressBook.addPerson(BOB);
+            addressBook.addPerson(BENSON);
+        }));
+        assertEquals(getTypicalAddressBook(), addressBook);
+        assertEquals(Collections.singleton(DANIEL), addressBook.findPersons(nameKeyword("Daniel")));
+        assertTrue(addressBook.findPersons(nameKeyword("Bob")).isEmpty());
+        assertEquals(null, addressBook.getPersonsByTag().get(new Tag(VALID_TAG_HUSBAND)));
+        assertTrue(addressBook.getModificationCount() > modificationCount);
+    }
+
+    @Test
+    public void getModificationCount_changesAndFailedChanges_countsOnlyChanges() {
+        assertEquals(0, addressBook.getModificationCount());
+
+        addressBook.addPerson(ALICE);
+        addressBook.setPerson(ALICE, BENSON);
+        addressBook.removePerson(BENSON);
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(4, addressBook.getModificationCount());
+
+        // read-only operations and rejected changes do not count
+        addressBook.hasPerson(ALICE);
+        addressBook.findPersons(nameKeyword("Meier"));
+        assertThrows(DuplicatePersonException.class, () -> addressBook.addPerson(ALICE));
+        assertThrows(DuplicatePersonException.class, () -> addressBook.addPersons(Arrays.asList(ALICE)));
+        assertEquals(4, addressBook.getModificationCount());
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -89,6 +251,10 @@ public class AddressBookTest {
         assertEquals(expected, addressBook.toString());
     }
 
+    private static NameContainsKeywordsPredicate nameKeyword(String keyword) {
+        return new NameContainsKeywordsPredicate(Collections.singletonList(keyword));
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
@@ -103,6 +269,11 @@ public class AddressBookTest {
         public ObservableList<Person> getPersonList() {
             return persons;
         }
+
+        @Override
+        public Map<Tag, Set<Person>> getPersonsByTag() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
 }
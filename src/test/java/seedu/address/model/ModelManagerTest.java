@@ -7,16 +7,29 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.IndexedPersonPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndex;
+import seedu.address.model.person.PersonOrder;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -93,6 +106,127 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void sortFilteredPersonList_personsAddedAndEdited_listStaysSorted() {
+        modelManager.addPerson(DANIEL);
+        modelManager.addPerson(ALICE);
+        modelManager.sortFilteredPersonList(PersonOrder.NAME.getComparator());
+        assertEquals(Arrays.asList(ALICE, DANIEL), modelManager.getFilteredPersonList());
+
+        modelManager.addPerson(CARL);
+        modelManager.addPerson(BENSON);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL, DANIEL), modelManager.getFilteredPersonList());
+
+        Person editedAlice = new PersonBuilder(ALICE).withName("Elle Pauline").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(Arrays.asList(BENSON, CARL, DANIEL, editedAlice), modelManager.getFilteredPersonList());
+
+        // the filter is applied before sorting
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Meier", "Pauline")));
+        assertEquals(Arrays.asList(BENSON, DANIEL, editedAlice), modelManager.getFilteredPersonList());
+
+        modelManager.sortFilteredPersonList(null);
+        assertEquals(Arrays.asList(DANIEL, editedAlice, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_personsAddedAndEditedAfterFind_filteredByPredicate() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Pauline")));
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+
+        // persons that were not found in the indexes are still listed once they match
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Pauline").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        Person newPerson = new PersonBuilder().withName("Pauline Tan").build();
+        modelManager.addPersons(Arrays.asList(newPerson, CARL));
+        assertEquals(Arrays.asList(ALICE, editedBenson, newPerson), modelManager.getFilteredPersonList());
+
+        // persons that were found in the indexes are no longer listed once they stop matching
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Meier").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(Arrays.asList(editedBenson, newPerson), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void batchUpdate_listSorted_orderAppliedAfterChanges() {
+        modelManager.addPerson(BENSON);
+        modelManager.batchUpdate(() -> {
+            modelManager.addPerson(ALICE);
+            modelManager.sortFilteredPersonList(PersonOrder.NAME.getComparator());
+            modelManager.addPerson(CARL);
+        });
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void batchUpdate_nullChanges_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.batchUpdate(null));
+    }
+
+    @Test
+    public void batchUpdate_manyPersons_filteredPersonListNotifiedOnce() {
+        modelManager.addPerson(ALICE);
+        AtomicInteger notificationCount = countFilteredPersonListNotifications();
+
+        modelManager.batchUpdate(() -> {
+            for (int i = 0; i < 1000; i++) {
+                modelManager.addPerson(new PersonBuilder().withName("Person " + i).build());
+            }
+            modelManager.deletePerson(ALICE);
+            modelManager.addPerson(BENSON);
+        });
+
+        assertEquals(1, notificationCount.get());
+        assertEquals(1001, modelManager.getFilteredPersonList().size());
+        assertEquals(1001, modelManager.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void batchUpdate_filterUpdated_filterAppliedAfterChanges() {
+        modelManager.addPerson(ALICE);
+        AtomicInteger notificationCount = countFilteredPersonListNotifications();
+
+        modelManager.batchUpdate(() -> {
+            modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Benson")));
+            modelManager.addPerson(BENSON);
+            modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Alice")));
+        });
+
+        // one notification for the added person, and one for the new filter
+        assertEquals(2, notificationCount.get());
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void batchUpdate_failingChange_changesAndFilterDropped() {
+        modelManager.addPerson(ALICE);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Alice")));
+
+        assertThrows(DuplicatePersonException.class, () -> modelManager.batchUpdate(() -> {
+            modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Benson")));
+            modelManager.addPersons(Arrays.asList(BENSON));
+            modelManager.sortFilteredPersonList(PersonOrder.NAME.getComparator());
+            modelManager.addPersons(Arrays.asList(ALICE));
+        }));
+        assertEquals(Arrays.asList(ALICE), modelManager.getAddressBook().getPersonList());
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+
+        modelManager.addPersons(Arrays.asList(CARL, BENSON));
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+    }
+
+    /**
+     * Returns a counter of the notifications subsequently fired by the filtered person list of {@code modelManager}.
+     */
+    private AtomicInteger countFilteredPersonListNotifications() {
+        AtomicInteger notificationCount = new AtomicInteger();
+        modelManager.getFilteredPersonList().addListener((ListChangeListener<Person>) change ->
+                notificationCount.incrementAndGet());
+        return notificationCount;
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -116,6 +250,11 @@ public class ModelManagerTest {
         // different addressBook -> returns false
         assertFalse(modelManager.equals(new ModelManager(differentAddressBook, userPrefs)));
 
+        // different order -> returns false
+        modelManager.sortFilteredPersonList(PersonOrder.NAME.getComparator().reversed());
+        assertFalse(modelManager.equals(new ModelManager(addressBook, userPrefs)));
+        modelManager.sortFilteredPersonList(null);
+
         // different filteredList -> returns false
         String[] keywords = ALICE.getName().fullName.split("\\s+");
         modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList(keywords)));
@@ -129,4 +268,40 @@ public class ModelManagerTest {
         differentUserPrefs.setAddressBookFilePath(Paths.get("differentFilePath"));
         assertFalse(modelManager.equals(new ModelManager(addressBook, differentUserPrefs)));
     }
+
+    @Test
+    public void constructor_compactPersonStorage_storesSamePersons() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setCompactPersonStorage(true);
+
+        modelManager = new ModelManager(addressBook, userPrefs);
+        assertEquals(addressBook, modelManager.getAddressBook());
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_compactPersonStorage_eachPersonTestedOnce() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setCompactPersonStorage(true);
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build(),
+                userPrefs);
+
+        NameContainsKeywordsPredicate namePredicate = new NameContainsKeywordsPredicate(Arrays.asList("Meier"));
+        List<Person> testedPersons = new ArrayList<>();
+        modelManager.updateFilteredPersonList(new IndexedPersonPredicate() {
+            @Override
+            public boolean test(Person person) {
+                testedPersons.add(person);
+                return namePredicate.test(person);
+            }
+
+            @Override
+            public Set<Person> findMatches(PersonIndex personIndex) {
+                throw new AssertionError("A compact address book has no indexes.");
+            }
+        });
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+        assertEquals(Arrays.asList(ALICE, BENSON), testedPersons);
+    }
 }
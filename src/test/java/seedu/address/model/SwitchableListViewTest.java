@@ -0,0 +1,77 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.SortedList;
+
+public class SwitchableListViewTest {
+
+    private final ObservableList<Integer> elements = FXCollections.observableArrayList(3, 1, 2);
+    private final SwitchableListView<Integer> view = new SwitchableListView<>(elements);
+    private final List<Integer> replayedElements = new ArrayList<>(view);
+
+    @Test
+    public void sourceChanged_changesPassedOn() {
+        replayChanges();
+        elements.add(4);
+        elements.remove(0);
+        elements.set(1, 5);
+        assertEquals(List.of(1, 5, 4), view);
+        assertEquals(view, replayedElements);
+    }
+
+    @Test
+    public void setSource_sortedSource_changesOfNewSourcePassedOn() {
+        replayChanges();
+        SortedList<Integer> sortedElements = new SortedList<>(elements, Comparator.naturalOrder());
+        view.setSource(sortedElements);
+        assertEquals(List.of(1, 2, 3), view);
+        assertEquals(view, replayedElements);
+
+        sortedElements.setComparator(Comparator.reverseOrder());
+        elements.add(0);
+        assertEquals(List.of(3, 2, 1, 0), view);
+        assertEquals(view, replayedElements);
+
+        view.setSource(elements);
+        elements.remove(Integer.valueOf(3));
+        assertEquals(List.of(1, 2, 0), view);
+        assertEquals(view, replayedElements);
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> view.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> view.add(4));
+    }
+
+    /**
+     * Applies each change subsequently fired by {@code view} to {@code replayedElements}.
+     */
+    private void replayChanges() {
+        view.addListener((ListChangeListener<Integer>) change -> {
+            while (change.next()) {
+                int from = change.getFrom();
+                int to = change.getTo();
+                if (change.wasPermutated() || change.wasUpdated()) {
+                    for (int i = from; i < to; i++) {
+                        replayedElements.set(i, change.getList().get(i));
+                    }
+                    continue;
+                }
+                replayedElements.subList(from, from + change.getRemovedSize()).clear();
+                replayedElements.addAll(from, change.getAddedSubList());
+            }
+        });
+    }
+}
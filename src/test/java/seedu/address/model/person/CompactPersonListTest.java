@@ -0,0 +1,110 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.testutil.PersonBuilder;
+
+public class CompactPersonListTest {
+
+    private final CompactPersonList compactPersonList = new CompactPersonList();
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> compactPersonList.add(null));
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> compactPersonList.get(0));
+        compactPersonList.add(ALICE);
+        assertThrows(IndexOutOfBoundsException.class, () -> compactPersonList.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> compactPersonList.get(-1));
+    }
+
+    @Test
+    public void get_addedPersons_returnsEqualPersons() {
+        compactPersonList.addAll(getTypicalPersons());
+        assertEquals(getTypicalPersons(), compactPersonList);
+        assertNotSame(compactPersonList.get(0), compactPersonList.get(0));
+    }
+
+    @Test
+    public void get_nonAsciiAndLongFields_returnsEqualPerson() {
+        String longAddress = String.join(" ", Collections.nCopies(100, "Straße 大道"));
+        Person person = new PersonBuilder().withName("Zoe").withAddress(longAddress).build();
+        compactPersonList.add(person);
+        assertEquals(person, compactPersonList.get(0));
+    }
+
+    @Test
+    public void get_moreThan64DistinctTags_returnsEqualPersons() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).withTags("tag" + i, "tag" + (149 - i), "common")
+                    .build());
+        }
+        compactPersonList.addAll(persons);
+        assertEquals(persons, compactPersonList);
+    }
+
+    @Test
+    public void addSetRemove_anyPosition_keepsOtherPersons() {
+        compactPersonList.addAll(Arrays.asList(ALICE, CARL));
+        compactPersonList.add(1, BENSON);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), compactPersonList);
+
+        Person editedBenson = new PersonBuilder(BENSON).withTags().build();
+        assertEquals(BENSON, compactPersonList.set(1, editedBenson));
+        assertEquals(Arrays.asList(ALICE, editedBenson, CARL), compactPersonList);
+
+        assertEquals(ALICE, compactPersonList.remove(0));
+        assertEquals(Arrays.asList(editedBenson, CARL), compactPersonList);
+    }
+
+    @Test
+    public void copy_thenChanged_copyKeepsPersons() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).withTags("tag" + i).build());
+        }
+        compactPersonList.addAll(persons);
+        CompactPersonList copy = compactPersonList.copy();
+
+        compactPersonList.set(0, ALICE);
+        compactPersonList.remove(1);
+        compactPersonList.add(new PersonBuilder().withName("Zoe").withTags("newTag").build());
+        assertEquals(persons, copy);
+
+        copy.add(BENSON);
+        assertEquals(100, compactPersonList.size());
+        assertEquals(BENSON, copy.get(100));
+    }
+
+    @Test
+    public void set_person_notifiesListeners() {
+        compactPersonList.addAll(Arrays.asList(ALICE, BENSON));
+        List<String> changes = new ArrayList<>();
+        compactPersonList.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                changes.add(change.wasReplaced() + " " + change.getFrom() + " " + change.getRemoved());
+            }
+        });
+
+        compactPersonList.set(1, CARL);
+        assertEquals(Collections.singletonList("true 1 [" + BENSON + "]"), changes);
+    }
+}
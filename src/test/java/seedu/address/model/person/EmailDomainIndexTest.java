@@ -0,0 +1,53 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class EmailDomainIndexTest {
+
+    private static final Person AT_EXAMPLE = new PersonBuilder().withName("A").withEmail("a@example.com").build();
+    private static final Person AT_SUBDOMAIN = new PersonBuilder().withName("B").withEmail("b@mail.Example.com")
+            .build();
+    private static final Person AT_SIMILAR_DOMAIN = new PersonBuilder().withName("C").withEmail("c@myexample.com")
+            .build();
+
+    private final EmailDomainIndex emailDomainIndex = new EmailDomainIndex();
+
+    @Test
+    public void findPersons_nullDomain_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> emailDomainIndex.findPersons(null));
+    }
+
+    @Test
+    public void findPersons_domain_returnsPersonsAtDomainAndSubdomains() {
+        emailDomainIndex.setPersons(Arrays.asList(AT_EXAMPLE, AT_SUBDOMAIN, AT_SIMILAR_DOMAIN));
+        assertEquals(new HashSet<>(Arrays.asList(AT_EXAMPLE, AT_SUBDOMAIN)),
+                emailDomainIndex.findPersons("example.com"));
+        assertEquals(Collections.singleton(AT_SUBDOMAIN), emailDomainIndex.findPersons("@MAIL.example.com"));
+        assertEquals(3, emailDomainIndex.findPersons("com").size());
+    }
+
+    @Test
+    public void findPersons_noMatchOrEmptyDomain_returnsEmptySet() {
+        emailDomainIndex.setPersons(Arrays.asList(AT_EXAMPLE, AT_SUBDOMAIN));
+        assertTrue(emailDomainIndex.findPersons("ample.com").isEmpty());
+        assertTrue(emailDomainIndex.findPersons("example").isEmpty());
+        assertTrue(emailDomainIndex.findPersons("@").isEmpty());
+    }
+
+    @Test
+    public void remove_person_noLongerFound() {
+        emailDomainIndex.setPersons(Arrays.asList(AT_EXAMPLE, AT_SUBDOMAIN));
+        emailDomainIndex.remove(AT_SUBDOMAIN);
+        assertEquals(Collections.singleton(AT_EXAMPLE), emailDomainIndex.findPersons("example.com"));
+    }
+}
@@ -1,9 +1,14 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 public class EmailTest {
@@ -66,6 +71,33 @@ public class EmailTest {
         assertTrue(Email.isValidEmail("e1234567@u.nus.edu")); // more than one period in domain
     }
 
+    @Test
+    public void isValidEmail_allShortStrings_sameAsValidationRegex() {
+        // every string of up to 6 characters made of one character of each kind that the regex tells apart
+        char[] alphabet = {'a', '+', '_', '.', '-', '@', ' '};
+        List<String> strings = new ArrayList<>(Collections.singletonList(""));
+        for (int length = 1; length <= 6; length++) {
+            List<String> longerStrings = new ArrayList<>();
+            for (String string : strings) {
+                for (char c : alphabet) {
+                    longerStrings.add(string + c);
+                }
+            }
+            for (String string : longerStrings) {
+                assertEquals(string.matches(Email.VALIDATION_REGEX), Email.isValidEmail(string), string);
+            }
+            strings = longerStrings;
+        }
+    }
+
+    @Test
+    public void isValidEmail_longAdversarialStrings_returnsQuickly() {
+        // matching these against the validation regex takes seconds, or overflows the stack
+        assertFalse(Email.isValidEmail("a@" + "ab".repeat(100_000) + "."));
+        assertFalse(Email.isValidEmail("a@" + "a-".repeat(100_000) + "!"));
+        assertTrue(Email.isValidEmail("a@" + "a-b.".repeat(100_000) + "ab"));
+    }
+
     @Test
     public void equals() {
         Email email = new Email("valid@email");
@@ -0,0 +1,143 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonMatchesFieldsPredicateTest {
+
+    private static final List<String> NO_KEYWORDS = Collections.emptyList();
+    private static final Set<Tag> NO_TAGS = Collections.emptySet();
+
+    @Test
+    public void constructor_noCriteria_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PersonMatchesFieldsPredicate(NO_KEYWORDS,
+                Optional.empty(), Optional.empty(), NO_KEYWORDS, NO_TAGS));
+    }
+
+    @Test
+    public void equals() {
+        PersonMatchesFieldsPredicate phonePredicate = phonePrefix("9");
+
+        // same values -> returns true
+        assertTrue(phonePredicate.equals(phonePrefix("9")));
+
+        // same object -> returns true
+        assertTrue(phonePredicate.equals(phonePredicate));
+
+        // null -> returns false
+        assertFalse(phonePredicate.equals(null));
+
+        // different types -> returns false
+        assertFalse(phonePredicate.equals(1));
+
+        // different criteria -> returns false
+        assertFalse(phonePredicate.equals(phonePrefix("8")));
+        assertFalse(phonePredicate.equals(emailDomain("9")));
+
+        // leading @, trailing dots and case of email domain ignored -> returns true
+        assertTrue(emailDomain("example.com").equals(emailDomain("@Example.COM")));
+        assertTrue(emailDomain("example.com").equals(emailDomain("example.com..")));
+    }
+
+    @Test
+    public void test_allCriteriaMatch_returnsTrue() {
+        PersonMatchesFieldsPredicate predicate = new PersonMatchesFieldsPredicate(Arrays.asList("Bob", "alice"),
+                Optional.of("9435"), Optional.of("@example.com"), Arrays.asList("JURONG", "ave"),
+                Collections.singleton(new Tag("friends")));
+        assertTrue(predicate.test(ALICE));
+    }
+
+    @Test
+    public void test_anyCriterionDoesNotMatch_returnsFalse() {
+        // name
+        assertFalse(new PersonMatchesFieldsPredicate(Collections.singletonList("Ali"), Optional.of("9435"),
+                Optional.empty(), NO_KEYWORDS, NO_TAGS).test(ALICE));
+
+        // phone
+        assertFalse(phonePrefix("435").test(ALICE));
+
+        // email
+        assertFalse(emailDomain("ample.com").test(ALICE));
+        assertFalse(emailDomain("example.com").test(new PersonBuilder().withEmail("a@myexample.com").build()));
+
+        // address must contain all keywords
+        assertFalse(new PersonMatchesFieldsPredicate(NO_KEYWORDS, Optional.empty(), Optional.empty(),
+                Arrays.asList("jurong", "clementi"), NO_TAGS).test(ALICE));
+
+        // person must have all tags
+        assertFalse(new PersonMatchesFieldsPredicate(NO_KEYWORDS, Optional.empty(), Optional.empty(), NO_KEYWORDS,
+                new HashSet<>(Arrays.asList(new Tag("friends"), new Tag("owesMoney")))).test(ALICE));
+    }
+
+    @Test
+    public void findMatches_sameResultAsTestingEveryPerson() {
+        PersonIndex personIndex = new PersonIndex();
+        personIndex.setPersons(getTypicalPersons());
+
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, BENSON, DANIEL)), new PersonMatchesFieldsPredicate(
+                NO_KEYWORDS, Optional.empty(), Optional.empty(), NO_KEYWORDS, Collections.singleton(new Tag("friends")))
+                .findMatches(personIndex));
+        assertEquals(new HashSet<>(Arrays.asList(BENSON, DANIEL)), new PersonMatchesFieldsPredicate(
+                Collections.singletonList("meier"), Optional.empty(), Optional.of("example.com"), NO_KEYWORDS,
+                Collections.singleton(new Tag("friends"))).findMatches(personIndex));
+        assertEquals(Collections.singleton(CARL), new PersonMatchesFieldsPredicate(NO_KEYWORDS, Optional.of("95"),
+                Optional.empty(), Collections.singletonList("street"), NO_TAGS).findMatches(personIndex));
+        assertTrue(phonePrefix("1").findMatches(personIndex).isEmpty());
+    }
+
+    @Test
+    public void findMatches_emailDomain_sameResultAsTestingEveryPerson() {
+        List<Person> persons = new ArrayList<>(getTypicalPersons());
+        persons.add(new PersonBuilder().withName("Sub Domain").withEmail("sub@mail.example.com").build());
+        PersonIndex personIndex = new PersonIndex();
+        personIndex.setPersons(persons);
+
+        for (String domain : Arrays.asList("example.com", "example.com.", "@Example.COM..", "com", ".com", ".",
+                "@.", "ample.com", "mail.example.com.")) {
+            PersonMatchesFieldsPredicate predicate = emailDomain(domain);
+            Set<Person> expectedMatches = persons.stream().filter(predicate).collect(Collectors.toSet());
+            assertEquals(expectedMatches, new HashSet<>(predicate.findMatches(personIndex)), domain);
+        }
+    }
+
+    @Test
+    public void toStringMethod() {
+        PersonMatchesFieldsPredicate predicate = new PersonMatchesFieldsPredicate(Collections.singletonList("alice"),
+                Optional.of("9"), Optional.empty(), NO_KEYWORDS, NO_TAGS);
+
+        String expected = PersonMatchesFieldsPredicate.class.getCanonicalName() + "{nameKeywords=[alice], "
+                + "phonePrefix=9, emailDomain=null, addressKeywords=[], tags=[]}";
+        assertEquals(expected, predicate.toString());
+    }
+
+    private static PersonMatchesFieldsPredicate phonePrefix(String prefix) {
+        return new PersonMatchesFieldsPredicate(NO_KEYWORDS, Optional.of(prefix), Optional.empty(), NO_KEYWORDS,
+                NO_TAGS);
+    }
+
+    private static PersonMatchesFieldsPredicate emailDomain(String domain) {
+        return new PersonMatchesFieldsPredicate(NO_KEYWORDS, Optional.empty(), Optional.of(domain), NO_KEYWORDS,
+                NO_TAGS);
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonOrderTest {
+
+    @Test
+    public void fromKeyword() {
+        // null keyword
+        assertThrows(NullPointerException.class, () -> PersonOrder.fromKeyword(null));
+
+        // unknown keywords
+        assertEquals(Optional.empty(), PersonOrder.fromKeyword(""));
+        assertEquals(Optional.empty(), PersonOrder.fromKeyword("tags"));
+
+        // known keywords, ignoring case
+        assertEquals(Optional.of(PersonOrder.NAME), PersonOrder.fromKeyword("name"));
+        assertEquals(Optional.of(PersonOrder.EMAIL), PersonOrder.fromKeyword("Email"));
+        assertEquals(Optional.of(PersonOrder.ADDED), PersonOrder.fromKeyword("ADDED"));
+    }
+
+    @Test
+    public void getComparator_added_returnsNull() {
+        assertNull(PersonOrder.ADDED.getComparator());
+    }
+
+    @Test
+    public void getComparator_nameOrder_ignoresCaseUnlessNamesOnlyDifferInCase() {
+        Person lowerCaseBenson = new PersonBuilder(BENSON).withName("benson Meier").build();
+        assertTrue(PersonOrder.NAME.getComparator().compare(ALICE, lowerCaseBenson) < 0);
+        assertTrue(PersonOrder.NAME.getComparator().compare(BENSON, lowerCaseBenson) < 0);
+        assertEquals(0, PersonOrder.NAME.getComparator().compare(BENSON, new PersonBuilder(BENSON).build()));
+    }
+
+    @Test
+    public void getComparator_fieldOrder_tiesBrokenByName() {
+        Person bensonWithAliceEmail = new PersonBuilder(BENSON).withEmail("ALICE@example.com").build();
+        assertTrue(PersonOrder.EMAIL.getComparator().compare(ALICE, bensonWithAliceEmail) < 0);
+        assertTrue(PersonOrder.EMAIL.getComparator().compare(bensonWithAliceEmail, ALICE) > 0);
+
+        Person bensonWithAlicePhone = new PersonBuilder(BENSON).withPhone(ALICE.getPhone().value).build();
+        assertTrue(PersonOrder.PHONE.getComparator().compare(ALICE, bensonWithAlicePhone) < 0);
+        assertTrue(PersonOrder.PHONE.getComparator().compare(ALICE, BENSON) < 0);
+    }
+}
@@ -51,6 +51,13 @@ public class PersonTest {
         assertFalse(BOB.isSamePerson(editedBob));
     }
 
+    @Test
+    public void ofKnownValidValues_validValues_equalsValidatedPerson() {
+        Person person = Person.ofKnownValidValues(ALICE.getName().fullName, ALICE.getPhone().value,
+                ALICE.getEmail().value, ALICE.getAddress().value, ALICE.getTags());
+        assertEquals(ALICE, person);
+    }
+
     @Test
     public void equals() {
         // same values -> returns true
@@ -0,0 +1,63 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Test;
+
+public class PhonePrefixTrieTest {
+
+    private final PhonePrefixTrie phonePrefixTrie = new PhonePrefixTrie();
+
+    @Test
+    public void findPersons_nullPrefix_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> phonePrefixTrie.findPersons(null));
+    }
+
+    @Test
+    public void findPersons_prefix_returnsPersonsWithPhoneStartingWithPrefix() {
+        phonePrefixTrie.setPersons(Arrays.asList(ALICE, BENSON, CARL, ELLE, FIONA, GEORGE));
+        assertEquals(new HashSet<>(Arrays.asList(ELLE, FIONA, GEORGE)), phonePrefixTrie.findPersons("9482"));
+        assertEquals(new HashSet<>(Arrays.asList(FIONA, GEORGE)), phonePrefixTrie.findPersons("94824"));
+        assertEquals(Collections.singleton(BENSON), phonePrefixTrie.findPersons("98765432"));
+        assertEquals(6, phonePrefixTrie.findPersons("9").size());
+    }
+
+    @Test
+    public void findPersons_noMatchOrNonDigitPrefix_returnsEmptySet() {
+        phonePrefixTrie.setPersons(Arrays.asList(ALICE, BENSON));
+        assertTrue(phonePrefixTrie.findPersons("8").isEmpty());
+        assertTrue(phonePrefixTrie.findPersons("987654321").isEmpty());
+        assertTrue(phonePrefixTrie.findPersons("9a").isEmpty());
+    }
+
+    @Test
+    public void remove_person_noLongerFound() {
+        phonePrefixTrie.setPersons(Arrays.asList(ELLE, FIONA));
+        phonePrefixTrie.remove(ELLE);
+        assertEquals(Collections.singleton(FIONA), phonePrefixTrie.findPersons("9482"));
+        phonePrefixTrie.remove(FIONA);
+        assertTrue(phonePrefixTrie.findPersons("").isEmpty());
+    }
+
+    @Test
+    public void remove_allPersons_trieEmpty() {
+        phonePrefixTrie.setPersons(Arrays.asList(ALICE, BENSON, CARL, ELLE, FIONA, GEORGE));
+        phonePrefixTrie.remove(FIONA);
+        assertFalse(phonePrefixTrie.isEmpty());
+        Arrays.asList(ALICE, BENSON, CARL, ELLE, GEORGE).forEach(phonePrefixTrie::remove);
+        assertTrue(phonePrefixTrie.isEmpty());
+    }
+}
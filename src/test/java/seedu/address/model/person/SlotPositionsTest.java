@@ -0,0 +1,70 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class SlotPositionsTest {
+
+    private final SlotPositions slotPositions = new SlotPositions();
+
+    @Test
+    public void positionOf_appendedSlots_returnsAppendOrder() {
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, slotPositions.positionOf(slotPositions.append()));
+        }
+    }
+
+    @Test
+    public void positionOf_slotsFreed_countsOccupiedSlotsBefore() {
+        int first = slotPositions.append();
+        int second = slotPositions.append();
+        int third = slotPositions.append();
+        slotPositions.free(second);
+        assertEquals(0, slotPositions.positionOf(first));
+        assertEquals(1, slotPositions.positionOf(third));
+        slotPositions.free(first);
+        assertEquals(0, slotPositions.positionOf(third));
+    }
+
+    @Test
+    public void positionOf_randomAppendsAndFrees_matchesList() {
+        Random random = new Random(0);
+        List<Integer> occupiedSlots = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            if (occupiedSlots.isEmpty() || random.nextInt(3) > 0) {
+                occupiedSlots.add(slotPositions.append());
+            } else {
+                slotPositions.free(occupiedSlots.remove(random.nextInt(occupiedSlots.size())));
+            }
+        }
+        for (int position = 0; position < occupiedSlots.size(); position++) {
+            assertEquals(position, slotPositions.positionOf(occupiedSlots.get(position)));
+        }
+    }
+
+    @Test
+    public void hasManyFreedSlots() {
+        List<Integer> slots = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            slots.add(slotPositions.append());
+        }
+        for (int i = 0; i < 20; i++) {
+            slotPositions.free(slots.get(i));
+        }
+        assertFalse(slotPositions.hasManyFreedSlots());
+        slotPositions.free(slots.get(20));
+        assertTrue(slotPositions.hasManyFreedSlots());
+
+        slotPositions.reset(19);
+        assertFalse(slotPositions.hasManyFreedSlots());
+        assertEquals(18, slotPositions.positionOf(18));
+        assertEquals(19, slotPositions.positionOf(slotPositions.append()));
+    }
+}
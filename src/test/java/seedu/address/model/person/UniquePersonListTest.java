@@ -3,18 +3,25 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -102,6 +109,33 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_updatesIdentityLookup() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void setPerson_afterEarlierRemoval_replacesInPlace() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+        uniquePersonList.remove(ALICE);
+        List<String> changes = recordChanges();
+
+        uniquePersonList.setPerson(DANIEL, BOB);
+
+        assertEquals(Arrays.asList(BENSON, CARL, BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(Collections.singletonList("replaced 2 " + Collections.singletonList(DANIEL)), changes);
+    }
+
+    @Test
+    public void setPerson_targetPersonWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setPerson(editedAlice, BOB));
+    }
+
     @Test
     public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
         uniquePersonList.add(ALICE);
@@ -127,6 +161,39 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+    }
+
+    @Test
+    public void remove_multiplePersons_emitsSingleRemovalAtCorrectIndexEachTime() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+        List<String> changes = recordChanges();
+
+        uniquePersonList.remove(BENSON);
+        uniquePersonList.remove(DANIEL);
+        uniquePersonList.add(BOB);
+        uniquePersonList.remove(CARL);
+
+        assertEquals(Arrays.asList(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(Arrays.asList("removed 1 " + Collections.singletonList(BENSON),
+                "removed 2 " + Collections.singletonList(DANIEL),
+                "added 2",
+                "removed 1 " + Collections.singletonList(CARL)), changes);
+    }
+
+    @Test
+    public void remove_existingPerson_personCanBeAddedAgain() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -154,6 +221,8 @@ public class UniquePersonListTest {
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         expectedUniquePersonList.add(BOB);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
     }
 
     @Test
@@ -162,6 +231,35 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePersons_reportsAllDuplicateGroups() {
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        Person editedBob = new PersonBuilder(BOB).withTags().build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, BENSON, editedAlice, editedBob);
+        try {
+            uniquePersonList.setPersons(listWithDuplicatePersons);
+        } catch (DuplicatePersonException e) {
+            assertEquals(Arrays.asList(Arrays.asList(ALICE, editedAlice), Arrays.asList(BOB, editedBob)),
+                    e.getDuplicatePersons());
+            return;
+        }
+        fail("DuplicatePersonException was not thrown");
+    }
+
+    @Test
+    public void findDuplicatePersons_uniquePersons_returnsEmptyList() {
+        assertEquals(Collections.emptyList(), UniquePersonList.findDuplicatePersons(Arrays.asList(ALICE, BOB)));
+        assertEquals(Collections.emptyList(), UniquePersonList.findDuplicatePersons(Collections.emptyList()));
+    }
+
+    @Test
+    public void findDuplicatePersons_duplicatePersons_returnsGroupsInOrderOfFirstAppearance() {
+        Person editedBob = new PersonBuilder(BOB).withTags().build();
+        List<Person> persons = Arrays.asList(BENSON, BOB, ALICE, editedBob, ALICE, BOB);
+        assertEquals(Arrays.asList(Arrays.asList(BOB, editedBob, BOB), Arrays.asList(ALICE, ALICE)),
+                UniquePersonList.findDuplicatePersons(persons));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -172,4 +270,142 @@ public class UniquePersonListTest {
     public void toStringMethod() {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
     }
+
+    @Test
+    public void remove_manyPersons_remainingPersonsFoundByPosition() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).build());
+        }
+        persons.forEach(uniquePersonList::add);
+
+        // removing most persons frees enough slots for the remaining persons to be renumbered
+        List<Person> remainingPersons = new ArrayList<>();
+        for (int i = 0; i < persons.size(); i++) {
+            if (i % 4 == 3) {
+                remainingPersons.add(persons.get(i));
+            } else {
+                uniquePersonList.remove(persons.get(i));
+            }
+        }
+        assertEquals(remainingPersons, uniquePersonList.asUnmodifiableObservableList());
+
+        Person editedPerson = new PersonBuilder().withName("Edited Person").build();
+        uniquePersonList.setPerson(remainingPersons.get(10), editedPerson);
+        remainingPersons.set(10, editedPerson);
+        uniquePersonList.remove(remainingPersons.remove(3));
+        uniquePersonList.add(ALICE);
+        remainingPersons.add(ALICE);
+        uniquePersonList.remove(remainingPersons.remove(20));
+        assertEquals(remainingPersons, uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void batchUpdate_nullChanges_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.batchUpdate(null));
+    }
+
+    @Test
+    public void batchUpdate_manyChanges_listenersNotifiedOnce() {
+        uniquePersonList.add(ALICE);
+        AtomicInteger notificationCount = countNotifications();
+        uniquePersonList.batchUpdate(() -> {
+            uniquePersonList.add(BENSON);
+            uniquePersonList.add(CARL);
+            uniquePersonList.setPerson(ALICE, DANIEL);
+            uniquePersonList.remove(BENSON);
+            uniquePersonList.add(ALICE);
+            uniquePersonList.add(BOB);
+        });
+        assertEquals(1, notificationCount.get());
+        assertEquals(Arrays.asList(DANIEL, CARL, ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+
+        // persons changed in the batch can still be found by position
+        uniquePersonList.remove(CARL);
+        uniquePersonList.setPerson(BOB, BENSON);
+        assertEquals(Arrays.asList(DANIEL, ALICE, BENSON), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(3, notificationCount.get());
+    }
+
+    @Test
+    public void batchUpdate_nestedBatches_listenersNotifiedOnce() {
+        AtomicInteger notificationCount = countNotifications();
+        uniquePersonList.batchUpdate(() -> {
+            uniquePersonList.add(ALICE);
+            uniquePersonList.batchUpdate(() -> uniquePersonList.add(BENSON));
+            assertEquals(0, notificationCount.get());
+            uniquePersonList.add(CARL);
+        });
+        assertEquals(1, notificationCount.get());
+    }
+
+    @Test
+    public void batchUpdate_failingChange_allChangesUndone() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        List<Person> listenerPersons = new ArrayList<>(uniquePersonList.asUnmodifiableObservableList());
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            listenerPersons.clear();
+            listenerPersons.addAll(change.getList());
+        });
+
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.batchUpdate(() -> {
+            uniquePersonList.remove(BENSON);
+            uniquePersonList.setPerson(ALICE, DANIEL);
+            uniquePersonList.add(BOB);
+            uniquePersonList.setPersons(Arrays.asList(CARL, ALICE));
+            uniquePersonList.remove(ALICE);
+            uniquePersonList.add(CARL);
+        }));
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), listenerPersons);
+
+        // the persons put back can still be found by position
+        assertTrue(uniquePersonList.contains(BENSON));
+        assertFalse(uniquePersonList.contains(BOB));
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.setPerson(CARL, DANIEL);
+        assertEquals(Arrays.asList(BENSON, DANIEL), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void batchUpdate_failingNestedBatch_onlyNestedChangesUndone() {
+        uniquePersonList.batchUpdate(() -> {
+            uniquePersonList.add(ALICE);
+            assertThrows(DuplicatePersonException.class, () -> uniquePersonList.batchUpdate(() -> {
+                uniquePersonList.add(BENSON);
+                uniquePersonList.add(ALICE);
+            }));
+            uniquePersonList.add(CARL);
+        });
+        assertEquals(Arrays.asList(ALICE, CARL), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    /**
+     * Returns a counter of the notifications subsequently fired by {@code uniquePersonList}.
+     */
+    private AtomicInteger countNotifications() {
+        AtomicInteger notificationCount = new AtomicInteger();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                notificationCount.incrementAndGet());
+        return notificationCount;
+    }
+
+    /**
+     * Returns a list that records a description of every change subsequently fired by {@code uniquePersonList}.
+     */
+    private List<String> recordChanges() {
+        List<String> changes = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                if (change.wasReplaced()) {
+                    changes.add("replaced " + change.getFrom() + " " + change.getRemoved());
+                } else if (change.wasRemoved()) {
+                    changes.add("removed " + change.getFrom() + " " + change.getRemoved());
+                } else if (change.wasAdded()) {
+                    changes.add("added " + change.getFrom());
+                }
+            }
+        });
+        return changes;
+    }
 }
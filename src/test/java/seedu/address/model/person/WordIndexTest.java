@@ -0,0 +1,99 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class WordIndexTest {
+
+    private final WordIndex nameIndex = new WordIndex(person -> person.getName().fullName);
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> nameIndex.add(null));
+    }
+
+    @Test
+    public void getPersons_nullWord_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> nameIndex.getPersons(null));
+    }
+
+    @Test
+    public void getPersons_emptyIndex_returnsEmptySet() {
+        assertTrue(nameIndex.getPersons("Alice").isEmpty());
+    }
+
+    @Test
+    public void getPersons_wordIgnoringCase_returnsPersons() {
+        nameIndex.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+        assertEquals(Collections.singleton(ALICE), nameIndex.getPersons("aLIcE"));
+        assertEquals(Collections.singleton(ALICE), nameIndex.getPersons("pauline"));
+        assertEquals(new HashSet<>(Arrays.asList(BENSON, DANIEL)), nameIndex.getPersons("MEIER"));
+    }
+
+    @Test
+    public void getPersons_partialWord_returnsEmptySet() {
+        nameIndex.add(ALICE);
+        assertTrue(nameIndex.getPersons("Ali").isEmpty());
+        assertTrue(nameIndex.getPersons("Alice Pauline").isEmpty());
+    }
+
+    @Test
+    public void getPersons_modifySet_throwsUnsupportedOperationException() {
+        nameIndex.add(ALICE);
+        assertThrows(UnsupportedOperationException.class, () -> nameIndex.getPersons("alice").clear());
+    }
+
+    @Test
+    public void getPersons_fieldWithPunctuation_wordsSeparated() {
+        WordIndex addressIndex = new WordIndex(person -> person.getAddress().value);
+        addressIndex.add(ALICE);
+        assertEquals(Collections.singleton(ALICE), addressIndex.getPersons("jurong"));
+        assertEquals(Collections.singleton(ALICE), addressIndex.getPersons("08"));
+        assertTrue(addressIndex.getPersons("#08-111").isEmpty());
+    }
+
+    @Test
+    public void remove_nameWithRepeatedWord_personRemovedOnce() {
+        Person repeatedName = new PersonBuilder().withName("Ann  Ann").build();
+        nameIndex.add(repeatedName);
+        assertEquals(Collections.singleton(repeatedName), nameIndex.getPersons("ann"));
+        nameIndex.remove(repeatedName);
+        assertTrue(nameIndex.getPersons("ann").isEmpty());
+    }
+
+    @Test
+    public void remove_person_noLongerFound() {
+        nameIndex.setPersons(Arrays.asList(BENSON, DANIEL));
+        nameIndex.remove(BENSON);
+        assertEquals(Collections.singleton(DANIEL), nameIndex.getPersons("Meier"));
+        assertTrue(nameIndex.getPersons("Benson").isEmpty());
+    }
+
+    @Test
+    public void setPersons_replacesExistingPersons() {
+        nameIndex.add(ALICE);
+        nameIndex.setPersons(Collections.singletonList(CARL));
+        assertTrue(nameIndex.getPersons("Alice").isEmpty());
+        assertEquals(Collections.singleton(CARL), nameIndex.getPersons("Carl"));
+    }
+
+    @Test
+    public void wordsOf() {
+        assertEquals(new HashSet<>(Arrays.asList("123", "jurong", "west", "ave", "6", "08", "111")),
+                WordIndex.wordsOf("123, Jurong West Ave 6, #08-111"));
+        assertTrue(WordIndex.wordsOf(" ,- ").isEmpty());
+    }
+}
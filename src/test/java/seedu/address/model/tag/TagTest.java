@@ -1,7 +1,17 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 import org.junit.jupiter.api.Test;
 
 public class TagTest {
@@ -17,10 +27,51 @@ public class TagTest {
         assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
     }
 
+    @Test
+    public void of_invalidTagName_throwsException() {
+        assertThrows(NullPointerException.class, () -> Tag.of(null));
+        assertThrows(IllegalArgumentException.class, () -> Tag.of("not valid"));
+    }
+
+    @Test
+    public void of_equalNames_returnsSameInstance() {
+        Tag tag = Tag.of("colleagues");
+        assertSame(tag, Tag.of(new String("colleagues")));
+        assertEquals(new Tag("colleagues"), tag);
+        assertNotSame(tag, Tag.of("Colleagues"));
+    }
+
+    @Test
+    public void ofValidName() {
+        assertThrows(NullPointerException.class, () -> Tag.ofValidName(null));
+        assertEquals(Optional.empty(), Tag.ofValidName("not valid"));
+        assertSame(Tag.of("family"), Tag.ofValidName("family").get());
+    }
+
+    @Test
+    public void of_manyThreads_returnsSameInstance() {
+        List<Tag> tags = IntStream.range(0, 10000).parallel()
+                .mapToObj(i -> Tag.of("parallel" + i % 10))
+                .collect(Collectors.toList());
+        for (int i = 0; i < tags.size(); i++) {
+            assertSame(tags.get(i % 10), tags.get(i));
+        }
+    }
+
     @Test
     public void isValidTagName() {
         // null tag name
         assertThrows(NullPointerException.class, () -> Tag.isValidTagName(null));
+
+        // invalid tag names
+        assertFalse(Tag.isValidTagName(""));
+        assertFalse(Tag.isValidTagName("best friend"));
+        assertFalse(Tag.isValidTagName("friend*"));
+
+        // valid tag names, with and without a canonical tag
+        assertTrue(Tag.isValidTagName("neighbours"));
+        Tag.of("neighbours");
+        assertTrue(Tag.isValidTagName("neighbours"));
     }
 
 }
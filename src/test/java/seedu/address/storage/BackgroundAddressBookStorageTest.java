@@ -0,0 +1,151 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class BackgroundAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveAddressBook_thenFlush_addressBookWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        BackgroundAddressBookStorage storage = new BackgroundAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook addressBook = getTypicalAddressBook();
+
+        storage.saveAddressBook(addressBook);
+        storage.flushAddressBook();
+        assertEquals(addressBook, new JsonAddressBookStorage(filePath).readAddressBook().get());
+
+        // reading waits for the pending save
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_savesDuringWrite_coalescedIntoOneWriteOfLatestData() throws Exception {
+        RecordingAddressBookStorage recordingStorage = new RecordingAddressBookStorage(testFolder.resolve("ab.json"));
+        BackgroundAddressBookStorage storage = new BackgroundAddressBookStorage(recordingStorage);
+        AddressBook addressBook = new AddressBook();
+
+        storage.saveAddressBook(addressBook);
+        assertTrue(recordingStorage.writeStarted.await(5, TimeUnit.SECONDS));
+        addressBook.addPerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+        recordingStorage.releaseWrites.countDown();
+        storage.flushAddressBook();
+
+        // the first write is of the data when it was saved, not of the data changed while it was being written
+        assertEquals(2, recordingStorage.savedAddressBooks.size());
+        assertEquals(Collections.emptyList(), recordingStorage.savedAddressBooks.get(0).getPersonList());
+        assertEquals(addressBook.getPersonList(), recordingStorage.savedAddressBooks.get(1).getPersonList());
+    }
+
+    @Test
+    public void saveAddressBook_earlierWriteFailed_failureThrownOnceAndAddressBookStillSaved() throws Exception {
+        RecordingAddressBookStorage recordingStorage = new RecordingAddressBookStorage(testFolder.resolve("ab.json"));
+        recordingStorage.failure = new AccessDeniedException("dummy access denied exception");
+        BackgroundAddressBookStorage storage = new BackgroundAddressBookStorage(recordingStorage);
+
+        storage.saveAddressBook(new AddressBook());
+        recordingStorage.releaseWrites.countDown();
+        // reading waits for the write to fail
+        storage.readAddressBook();
+        recordingStorage.failure = null;
+
+        // the failure keeps its type, so it can still be told apart from other failures
+        assertThrows(AccessDeniedException.class, "dummy access denied exception", () ->
+                storage.saveAddressBook(getTypicalAddressBook()));
+        storage.flushAddressBook();
+        assertEquals(2, recordingStorage.savedAddressBooks.size());
+        assertEquals(getTypicalAddressBook().getPersonList(),
+                recordingStorage.savedAddressBooks.get(1).getPersonList());
+    }
+
+    @Test
+    public void flushAddressBook_writeFailed_failureThrown() throws Exception {
+        RecordingAddressBookStorage recordingStorage = new RecordingAddressBookStorage(testFolder.resolve("ab.json"));
+        recordingStorage.failure = new IOException("dummy IO exception");
+        BackgroundAddressBookStorage storage = new BackgroundAddressBookStorage(recordingStorage);
+
+        storage.saveAddressBook(new AddressBook());
+        recordingStorage.releaseWrites.countDown();
+        assertThrows(IOException.class, "dummy IO exception", storage::flushAddressBook);
+        storage.flushAddressBook();
+    }
+
+    @Test
+    public void saveAddressBook_writeFailedWithListener_failureGivenToListenerInsteadOfThrown() throws Exception {
+        RecordingAddressBookStorage recordingStorage = new RecordingAddressBookStorage(testFolder.resolve("ab.json"));
+        IOException failure = new IOException("dummy IO exception");
+        recordingStorage.failure = failure;
+        BackgroundAddressBookStorage storage = new BackgroundAddressBookStorage(recordingStorage);
+        List<IOException> reportedFailures = Collections.synchronizedList(new ArrayList<>());
+        storage.setSaveFailureListener(reportedFailures::add);
+
+        storage.saveAddressBook(new AddressBook());
+        recordingStorage.releaseWrites.countDown();
+        storage.flushAddressBook();
+        assertEquals(Collections.singletonList(failure), reportedFailures);
+
+        recordingStorage.failure = null;
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.flushAddressBook();
+        assertEquals(1, reportedFailures.size());
+    }
+
+    /**
+     * An {@code AddressBookStorage} that records the address books it is asked to save, instead of writing them, and
+     * holds up each save until {@code releaseWrites} is counted down.
+     */
+    private static class RecordingAddressBookStorage extends JsonAddressBookStorage {
+        private final List<ReadOnlyAddressBook> savedAddressBooks = new ArrayList<>();
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private final CountDownLatch releaseWrites = new CountDownLatch(1);
+        private volatile IOException failure;
+
+        RecordingAddressBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            writeStarted.countDown();
+            try {
+                releaseWrites.await();
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+            savedAddressBooks.add(addressBook);
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.AddressBookBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(testFolder.resolve("addressbook")).readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertTrue(BinaryAddressBookStorage.isBinarySnapshot(filePath));
+        assertEquals(original, storage.readAddressBook().get());
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_repeatedTagsAndDomains_writtenOnce() throws Exception {
+        Path filePath = testFolder.resolve("addressbook");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        String snapshot = new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8);
+
+        // three typical persons are tagged friends, and all typical persons have emails at example.com
+        assertEquals(snapshot.indexOf("friends"), snapshot.lastIndexOf("friends"));
+        assertEquals(snapshot.indexOf("example.com"), snapshot.lastIndexOf("example.com"));
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_imported() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        assertFalse(BinaryAddressBookStorage.isBinarySnapshot(filePath));
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        assertEquals(getTypicalAddressBook(), addressBook);
+        storage.saveAddressBook(addressBook);
+        assertTrue(BinaryAddressBookStorage.isBinarySnapshot(filePath));
+    }
+
+    @Test
+    public void exportToJsonAndImportFromJson_roundTrip_samePersons() throws Exception {
+        Path binaryFilePath = testFolder.resolve("addressbook");
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        Path importedFilePath = testFolder.resolve("imported");
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(getTypicalAddressBook());
+
+        BinaryAddressBookStorage.exportToJson(binaryFilePath, jsonFilePath);
+        assertEquals(getTypicalAddressBook(), new JsonAddressBookStorage(jsonFilePath).readAddressBook().get());
+        BinaryAddressBookStorage.importFromJson(jsonFilePath, importedFilePath);
+        assertTrue(BinaryAddressBookStorage.isBinarySnapshot(importedFilePath));
+        assertEquals(getTypicalAddressBook(), new BinaryAddressBookStorage(importedFilePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = saveTypicalSnapshot();
+        byte[] snapshot = Files.readAllBytes(filePath);
+        ByteBuffer.wrap(snapshot).putInt(Integer.BYTES, BinaryAddressBookStorage.FORMAT_VERSION + 1);
+        Files.write(filePath, snapshot);
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedSnapshot_throwsDataLoadingException() throws Exception {
+        Path filePath = saveTypicalSnapshot();
+        byte[] snapshot = Files.readAllBytes(filePath);
+        for (int length = Integer.BYTES; length < snapshot.length; length += 7) {
+            Files.write(filePath, Arrays.copyOf(snapshot, length));
+            assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+        }
+    }
+
+    @Test
+    public void readAddressBook_trailingBytes_throwsDataLoadingException() throws Exception {
+        Path filePath = saveTypicalSnapshot();
+        byte[] snapshot = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(snapshot, snapshot.length + 1));
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_invalidStringTablePosition_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(new AddressBookBuilder().withPerson(ALICE).build());
+        byte[] snapshot = Files.readAllBytes(filePath);
+        // the position of Alice's only tag is the last value before the checksum
+        ByteBuffer.wrap(snapshot).putInt(snapshot.length - 2 * Integer.BYTES, Integer.MAX_VALUE);
+        Files.write(filePath, withNewChecksum(snapshot));
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_changedSnapshot_throwsDataLoadingException() throws Exception {
+        Path filePath = saveTypicalSnapshot();
+        String snapshot = new String(Files.readAllBytes(filePath), StandardCharsets.ISO_8859_1);
+        // the changed phone number is still valid, but no longer matches the checksum
+        Files.write(filePath, snapshot.replace("94351253", "94351254").getBytes(StandardCharsets.ISO_8859_1));
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_uncheckedVersion_success() throws Exception {
+        Path filePath = saveTypicalSnapshot();
+        Files.write(filePath, toUncheckedVersion(Files.readAllBytes(filePath)));
+        assertEquals(getTypicalAddressBook(), new BinaryAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_uncheckedVersionWithInvalidPersonField_throwsDataLoadingException() throws Exception {
+        Path filePath = saveTypicalSnapshot();
+        String snapshot = new String(toUncheckedVersion(Files.readAllBytes(filePath)), StandardCharsets.ISO_8859_1);
+        // a phone number must be made of digits only
+        Files.write(filePath, snapshot.replace("94351253", "9435125x").getBytes(StandardCharsets.ISO_8859_1));
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    private Path saveTypicalSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressbook");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        return filePath;
+    }
+
+    /**
+     * Returns {@code snapshot} with its checksum replaced by the checksum of its other bytes.
+     */
+    private static byte[] withNewChecksum(byte[] snapshot) {
+        CRC32 checksum = new CRC32();
+        checksum.update(snapshot, 0, snapshot.length - Integer.BYTES);
+        byte[] newSnapshot = snapshot.clone();
+        ByteBuffer.wrap(newSnapshot).putInt(snapshot.length - Integer.BYTES, (int) checksum.getValue());
+        return newSnapshot;
+    }
+
+    /**
+     * Returns {@code snapshot} as a snapshot of the version without a checksum.
+     */
+    private static byte[] toUncheckedVersion(byte[] snapshot) {
+        byte[] uncheckedSnapshot = Arrays.copyOf(snapshot, snapshot.length - Integer.BYTES);
+        ByteBuffer.wrap(uncheckedSnapshot).putInt(Integer.BYTES, BinaryAddressBookStorage.UNCHECKED_FORMAT_VERSION);
+        return uncheckedSnapshot;
+    }
+}
@@ -0,0 +1,177 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournaledAddressBookStorage(testFolder.resolve("missing.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterFirstSave_onlyJournalWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        String snapshot = Files.readString(filePath);
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("12345678").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        addressBook.removePerson(BENSON);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(3, readJournal(filePath).size());
+        assertEquals(addressBook, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_noChanges_nothingWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        List<String> journal = readJournal(filePath);
+
+        storage.saveAddressBook(addressBook);
+        assertEquals(journal, readJournal(filePath));
+
+        // an equal address book read back from the storage is not saved again
+        JournaledAddressBookStorage reopenedStorage = new JournaledAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(reopenedStorage.readAddressBook().get());
+        Files.delete(filePath);
+        reopenedStorage.saveAddressBook(readBack);
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_clear_recordedAsOneRecord() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        addressBook.resetData(new AddressBook());
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(2, readJournal(filePath).size());
+        assertEquals(addressBook, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_newSnapshotWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 2);
+        AddressBook addressBook = new AddressBook();
+        storage.saveAddressBook(addressBook);
+
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        storage.saveAddressBook(addressBook);
+        assertEquals(2, readJournal(filePath).size());
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertTrue(readJournal(filePath).isEmpty());
+        assertEquals(addressBook, new JsonAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(addressBook, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_staleJournal_journalIgnored() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        // a snapshot that already contains the journalled changes, as if written just before a crash
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+        assertEquals(addressBook, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_recordIgnored() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        AddressBook expected = new AddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        expected.addPerson(HOON);
+        Files.writeString(getJournalFilePath(filePath), "{\"operation\":\"add\",\"ind", StandardOpenOption.APPEND);
+        JournaledAddressBookStorage reopenedStorage = new JournaledAddressBookStorage(filePath);
+        assertEquals(expected, reopenedStorage.readAddressBook().get());
+
+        // the journal is rewritten before it is appended to again
+        AddressBook readBack = new AddressBook(reopenedStorage.readAddressBook().get());
+        reopenedStorage.saveAddressBook(readBack);
+        assertTrue(readJournal(filePath).isEmpty());
+    }
+
+    @Test
+    public void readAddressBook_invalidRecord_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        Files.write(getJournalFilePath(filePath), Collections.singletonList("{\"operation\":\"delete\",\"index\":99}"),
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        assertThrows(DataLoadingException.class, () -> new JournaledAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_snapshotWritten() throws Exception {
+        Path otherFilePath = testFolder.resolve("other.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("addressbook.json"));
+        storage.saveAddressBook(getTypicalAddressBook(), otherFilePath);
+        assertEquals(getTypicalAddressBook(), storage.readAddressBook(otherFilePath).get());
+        assertTrue(Files.exists(getJournalFilePath(otherFilePath)));
+    }
+
+    private static Path getJournalFilePath(Path filePath) {
+        return JournaledAddressBookStorage.getJournalFilePath(filePath);
+    }
+
+    /**
+     * Returns the records in the journal of {@code filePath}, after its header.
+     */
+    private static List<String> readJournal(Path filePath) throws Exception {
+        List<String> lines = Files.readAllLines(getJournalFilePath(filePath));
+        return lines.subList(1, lines.size());
+    }
+}
@@ -18,6 +18,8 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -60,6 +62,25 @@ public class JsonAddressBookStorageTest {
         assertThrows(DataLoadingException.class, () -> readAddressBook("invalidAndValidPersonAddressBook.json"));
     }
 
+    @Test
+    public void readAddressBook_duplicatePersons_throwDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> readAddressBook("duplicatePersonAddressBook.json"));
+    }
+
+    @Test
+    public void readAddressBook_personsNotArrayOrTruncated_throwDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> readAddressBook("personsNotArrayAddressBook.json"));
+        assertThrows(DataLoadingException.class, () -> readAddressBook("truncatedAddressBook.json"));
+    }
+
+    @Test
+    public void readAddressBook_extraFields_extraFieldsIgnored() throws Exception {
+        AddressBook expected = new AddressBookBuilder().withPerson(new PersonBuilder().withName("Valid Person")
+                .withPhone("9482424").withEmail("hans@example.com").withAddress("4th street").withTags("friends")
+                .build()).build();
+        assertEquals(expected, readAddressBook("extraFieldsAddressBook.json").get());
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");
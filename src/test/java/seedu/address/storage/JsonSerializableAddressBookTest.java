@@ -5,12 +5,16 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -44,4 +48,38 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelTypes_manyChunks_sameOrder() throws Exception {
+        List<JsonAdaptedPerson> jsonAdaptedPersons = createJsonAdaptedPersons(
+                10 * JsonSerializableAddressBook.CONVERSION_CHUNK_SIZE + 1);
+        List<Person> persons = JsonSerializableAddressBook.toModelTypes(jsonAdaptedPersons);
+        assertEquals(jsonAdaptedPersons.size(), persons.size());
+        for (int i = 0; i < persons.size(); i++) {
+            assertEquals(jsonAdaptedPersons.get(i).toModelType(), persons.get(i));
+        }
+    }
+
+    @Test
+    public void toModelTypes_invalidPersonsInSeveralChunks_firstInvalidPersonReported() {
+        int chunkSize = JsonSerializableAddressBook.CONVERSION_CHUNK_SIZE;
+        List<JsonAdaptedPerson> jsonAdaptedPersons = createJsonAdaptedPersons(10 * chunkSize);
+        jsonAdaptedPersons.set(9 * chunkSize, new JsonAdaptedPerson("Invalid Email", "12345678", "invalid",
+                "Address", new ArrayList<>()));
+        jsonAdaptedPersons.set(3 * chunkSize + 7, new JsonAdaptedPerson("Invalid Phone", "+651234", "a@example.com",
+                "Address", new ArrayList<>()));
+        jsonAdaptedPersons.set(5 * chunkSize, new JsonAdaptedPerson("Invalid Email", "12345678", "invalid",
+                "Address", new ArrayList<>()));
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, () ->
+                JsonSerializableAddressBook.toModelTypes(jsonAdaptedPersons));
+    }
+
+    private static List<JsonAdaptedPerson> createJsonAdaptedPersons(int count) {
+        List<JsonAdaptedPerson> jsonAdaptedPersons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            jsonAdaptedPersons.add(new JsonAdaptedPerson("Person " + i, String.valueOf(10000000 + i),
+                    "person" + i + "@example.com", "Block " + i, new ArrayList<>()));
+        }
+        return jsonAdaptedPersons;
+    }
+
 }
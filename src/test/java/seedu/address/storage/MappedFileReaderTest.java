@@ -0,0 +1,115 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MappedFileReaderTest {
+
+    private static final String UNICODE_STRING = "Zo\u00eb \u5f20\u4f1f";
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readIntAndReadString_valuesAcrossWindows_success() throws Exception {
+        Path filePath = writeValues(1000);
+        // windows smaller than some of the values, so that values straddle the window boundaries
+        for (boolean isMapped : getSupportedModes()) {
+            for (int windowSize = 1; windowSize <= 13; windowSize++) {
+                try (MappedFileReader reader = new MappedFileReader(filePath, isMapped, windowSize)) {
+                    for (int i = 0; i < 1000; i++) {
+                        assertEquals(i * 31, reader.readInt());
+                        assertEquals(UNICODE_STRING + i, reader.readString(reader.readInt()));
+                    }
+                    assertEquals(Files.size(filePath), reader.position());
+                    assertFalse(reader.hasRemaining());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void readInt_pastEndOfFile_throwsEofException() throws Exception {
+        Path filePath = testFolder.resolve("file");
+        Files.write(filePath, new byte[] {0, 0, 0, 1, 0, 0});
+        for (boolean isMapped : getSupportedModes()) {
+            try (MappedFileReader reader = new MappedFileReader(filePath, isMapped, 4)) {
+                assertEquals(1, reader.readInt());
+                assertTrue(reader.hasRemaining());
+                assertThrows(EOFException.class, reader::readInt);
+                assertThrows(EOFException.class, () -> reader.readString(3));
+            }
+        }
+    }
+
+    @Test
+    public void asInputStream_smallWindows_readsWholeFile() throws Exception {
+        Path filePath = writeValues(100);
+        byte[] expected = Files.readAllBytes(filePath);
+        for (boolean isMapped : getSupportedModes()) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            try (InputStream input = new MappedFileReader(filePath, isMapped, 5).asInputStream()) {
+                output.write(input.read());
+                byte[] buffer = new byte[7];
+                for (int bytesRead = input.read(buffer); bytesRead != -1; bytesRead = input.read(buffer)) {
+                    output.write(buffer, 0, bytesRead);
+                }
+                assertEquals(-1, input.read());
+            }
+            assertArrayEquals(expected, output.toByteArray());
+        }
+    }
+
+    @Test
+    public void constructor_smallFile_readsFile() throws Exception {
+        Path filePath = writeValues(10);
+        try (MappedFileReader reader = new MappedFileReader(filePath)) {
+            assertEquals(Files.size(filePath), reader.size());
+            assertEquals(0, reader.readInt());
+        }
+    }
+
+    /**
+     * Returns whether each mode to test memory-maps the file. Files are not mapped on Windows, where the temporary
+     * folder could not be deleted while the mapping is still alive.
+     */
+    private static List<Boolean> getSupportedModes() {
+        List<Boolean> modes = new ArrayList<>();
+        modes.add(false);
+        if (MappedFileReader.IS_MAPPING_SUPPORTED) {
+            modes.add(true);
+        }
+        return modes;
+    }
+
+    private Path writeValues(int count) throws Exception {
+        Path filePath = testFolder.resolve("file");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            for (int i = 0; i < count; i++) {
+                byte[] string = (UNICODE_STRING + i).getBytes(StandardCharsets.UTF_8);
+                output.writeInt(i * 31);
+                output.writeInt(string.length);
+                output.write(string);
+            }
+        }
+        Files.write(filePath, bytes.toByteArray());
+        return filePath;
+    }
+}
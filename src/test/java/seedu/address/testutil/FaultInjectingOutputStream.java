@@ -0,0 +1,46 @@
+package seedu.address.testutil;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * An output stream that passes bytes on to another output stream until a given number of bytes have been written, and
+ * then fails every write, as a crash or a full disk partway through writing a file would.
+ */
+public class FaultInjectingOutputStream extends FilterOutputStream {
+
+    public static final String MESSAGE_INJECTED_FAULT = "Injected fault after %d bytes";
+
+    private final long faultOffset;
+    private long bytesWritten;
+
+    /**
+     * Creates a stream that writes the first {@code faultOffset} bytes to {@code out} and then fails.
+     */
+    public FaultInjectingOutputStream(OutputStream out, long faultOffset) {
+        super(out);
+        this.faultOffset = faultOffset;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (bytesWritten == faultOffset) {
+            throw new IOException(String.format(MESSAGE_INJECTED_FAULT, faultOffset));
+        }
+        out.write(b);
+        bytesWritten++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        long remaining = faultOffset - bytesWritten;
+        if (len > remaining) {
+            out.write(b, off, (int) remaining);
+            bytesWritten = faultOffset;
+            throw new IOException(String.format(MESSAGE_INJECTED_FAULT, faultOffset));
+        }
+        out.write(b, off, len);
+        bytesWritten += len;
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
+
+public class ListMirrorTest {
+
+    private final List<Runnable> mirrorTasks = new ArrayList<>();
+
+    @Test
+    public void constructor_copiesSource() {
+        ObservableList<Integer> source = FXCollections.observableArrayList(1, 2, 3);
+        ListMirror<Integer> mirror = new ListMirror<>(source, mirrorTasks::add);
+        assertEquals(List.of(1, 2, 3), mirror.getList());
+    }
+
+    @Test
+    public void changes_replayedOnMirrorExecutorOnly() {
+        ObservableList<Integer> source = FXCollections.observableArrayList(1, 2, 3);
+        ListMirror<Integer> mirror = new ListMirror<>(source, mirrorTasks::add);
+
+        source.add(4);
+        source.remove(0);
+        source.set(1, 5);
+        assertEquals(List.of(1, 2, 3), mirror.getList());
+
+        // All changes made before the replay runs are replayed together
+        assertEquals(1, mirrorTasks.size());
+        runMirrorTasks();
+        assertEquals(List.of(2, 5, 4), mirror.getList());
+
+        source.clear();
+        assertEquals(1, mirrorTasks.size());
+        runMirrorTasks();
+        assertEquals(List.of(), mirror.getList());
+    }
+
+    @Test
+    public void changes_filteredAndSortedSource_mirrorFollowsSource() {
+        ObservableList<Integer> elements = FXCollections.observableArrayList();
+        FilteredList<Integer> filtered = new FilteredList<>(elements);
+        SortedList<Integer> source = new SortedList<>(filtered);
+        ListMirror<Integer> mirror = new ListMirror<>(source, mirrorTasks::add);
+        Random random = new Random(0);
+
+        for (int i = 0; i < 1000; i++) {
+            switch (random.nextInt(6)) {
+            case 0:
+                elements.addAll(random.nextInt(elements.size() + 1), List.of(random.nextInt(100), random.nextInt(100)));
+                break;
+            case 1:
+                if (!elements.isEmpty()) {
+                    elements.remove(random.nextInt(elements.size()));
+                }
+                break;
+            case 2:
+                if (!elements.isEmpty()) {
+                    elements.set(random.nextInt(elements.size()), random.nextInt(100));
+                }
+                break;
+            case 3:
+                int divisor = random.nextInt(3) + 1;
+                filtered.setPredicate(element -> element % divisor == 0);
+                break;
+            case 4:
+                source.setComparator(random.nextBoolean() ? Comparator.naturalOrder() : Comparator.reverseOrder());
+                break;
+            default:
+                runMirrorTasks();
+                assertEquals(source, mirror.getList());
+                break;
+            }
+        }
+
+        runMirrorTasks();
+        assertEquals(source, mirror.getList());
+    }
+
+    private void runMirrorTasks() {
+        List<Runnable> tasks = new ArrayList<>(mirrorTasks);
+        mirrorTasks.clear();
+        tasks.forEach(Runnable::run);
+    }
+}
@@ -2,10 +2,14 @@ package seedu.address.ui;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.net.URL;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -57,6 +61,22 @@ public class UiPartTest {
         assertEquals(VALID_FILE_ROOT, new TestUiPart<TestFxmlObject>(validFileUrl, root).getRoot());
     }
 
+    @Test
+    public void constructor_fileChangedAfterFirstLoad_loadsFirstContents() throws Exception {
+        URL validFileUrl = getTestFileUrl(VALID_FILE_PATH);
+        Path copiedFile = testFolder.resolve("validFile.fxml");
+        Files.copy(Paths.get(validFileUrl.toURI()), copiedFile);
+        URL copiedFileUrl = copiedFile.toUri().toURL();
+        TestFxmlObject firstRoot = new TestUiPart<TestFxmlObject>(copiedFileUrl).getRoot();
+
+        // the file is only read the first time, and each UiPart gets its own objects
+        Files.copy(Paths.get(getTestFileUrl(INVALID_FILE_PATH).toURI()), copiedFile,
+                StandardCopyOption.REPLACE_EXISTING);
+        TestFxmlObject secondRoot = new TestUiPart<TestFxmlObject>(copiedFileUrl).getRoot();
+        assertEquals(VALID_FILE_ROOT, secondRoot);
+        assertNotSame(firstRoot, secondRoot);
+    }
+
     @Test
     public void constructor_nullFileName_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> new TestUiPart<Object>((String) null));